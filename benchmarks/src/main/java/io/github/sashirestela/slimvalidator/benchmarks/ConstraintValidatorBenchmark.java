@@ -0,0 +1,79 @@
+package io.github.sashirestela.slimvalidator.benchmarks;
+
+import io.github.sashirestela.slimvalidator.ConstraintValidator;
+import io.github.sashirestela.slimvalidator.benchmarks.data.Constrained;
+import io.github.sashirestela.slimvalidator.benchmarks.data.Fixtures;
+import io.github.sashirestela.slimvalidator.metadata.ClassMetadata.AnnotationMetadata;
+import io.github.sashirestela.slimvalidator.metadata.MetadataStore;
+import io.github.sashirestela.slimvalidator.util.Reflect;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.annotation.Annotation;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the isValid method of every validator alone, with the same initialized instance the
+ * Validator class uses.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConstraintValidatorBenchmark {
+
+    @Param({ "RequiredValidator", "RangeValidator", "SizeValidator", "ElementRangeValidator", "FiniteValidator",
+            "ExtensionValidator", "ObjectTypeValidator", "ObjectTypesValidator", "FieldMatchValidator",
+            "RequiredIfNullValidator" })
+    private String validatorName;
+
+    @Param({ "true", "false" })
+    private boolean valid;
+
+    private ConstraintValidator<Annotation, Object> validator;
+    private Object value;
+
+    @Setup
+    public void setup() {
+        var object = Fixtures.constrained(valid);
+        var classMetadata = MetadataStore.one().get(Constrained.class);
+        for (var annotationMetadata : classMetadata.getAnnotations()) {
+            if (isNamed(annotationMetadata)) {
+                validator = annotationMetadata.getValidator();
+                value = object;
+            }
+        }
+        for (var fieldMetadata : classMetadata.getFields()) {
+            for (var annotationMetadata : fieldMetadata.getAnnotations()) {
+                if (isNamed(annotationMetadata)) {
+                    validator = annotationMetadata.getValidator();
+                    value = Reflect.getValue(object, fieldMetadata.getName());
+                }
+            }
+        }
+        if (validator == null) {
+            throw new IllegalStateException("There is no constraint for " + validatorName);
+        }
+    }
+
+    @Benchmark
+    public boolean isValid() {
+        return validator.isValid(value);
+    }
+
+    private boolean isNamed(AnnotationMetadata annotationMetadata) {
+        return annotationMetadata.getValidatedBy().getSimpleName().equals(validatorName);
+    }
+
+}
@@ -0,0 +1,75 @@
+package io.github.sashirestela.slimvalidator.benchmarks;
+
+import io.github.sashirestela.slimvalidator.ConstraintViolation;
+import io.github.sashirestela.slimvalidator.Validator;
+import io.github.sashirestela.slimvalidator.benchmarks.data.Fixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the whole validation of representative object graphs: a flat object, a deep chain of
+ * nested objects, an object with a large collection, and objects that reference each other.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidatorBenchmark {
+
+    public enum Graph {
+        FLAT,
+        DEEP,
+        LARGE,
+        CYCLIC
+    }
+
+    @Param({ "FLAT", "DEEP", "LARGE", "CYCLIC" })
+    private Graph graph;
+
+    @Param({ "0", "10", "90" })
+    private int invalidPercent;
+
+    private Validator validator;
+    private Object object;
+
+    @Setup
+    public void setup() {
+        validator = new Validator();
+        switch (graph) {
+            case FLAT:
+                object = Fixtures.flat(invalidPercent);
+                break;
+            case DEEP:
+                object = Fixtures.deep(invalidPercent, 50);
+                break;
+            case LARGE:
+                object = Fixtures.large(invalidPercent, 10_000);
+                break;
+            case CYCLIC:
+                object = Fixtures.cyclic(invalidPercent, 100);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown graph " + graph);
+        }
+    }
+
+    @Benchmark
+    public List<ConstraintViolation> validate() {
+        return validator.validate(object);
+    }
+
+}
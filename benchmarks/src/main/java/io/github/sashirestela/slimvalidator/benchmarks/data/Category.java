@@ -0,0 +1,20 @@
+package io.github.sashirestela.slimvalidator.benchmarks.data;
+
+import io.github.sashirestela.slimvalidator.Valid;
+import io.github.sashirestela.slimvalidator.constraints.Required;
+import io.github.sashirestela.slimvalidator.constraints.Size;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class Category {
+
+    @Required
+    @Size(max = 30)
+    String name;
+
+    @Valid
+    Category subcategory;
+
+}
@@ -0,0 +1,61 @@
+package io.github.sashirestela.slimvalidator.benchmarks.data;
+
+import io.github.sashirestela.slimvalidator.constraints.ElementRange;
+import io.github.sashirestela.slimvalidator.constraints.Extension;
+import io.github.sashirestela.slimvalidator.constraints.FieldMatch;
+import io.github.sashirestela.slimvalidator.constraints.Finite;
+import io.github.sashirestela.slimvalidator.constraints.ObjectType;
+import io.github.sashirestela.slimvalidator.constraints.ObjectType.Schema;
+import io.github.sashirestela.slimvalidator.constraints.Range;
+import io.github.sashirestela.slimvalidator.constraints.Required;
+import io.github.sashirestela.slimvalidator.constraints.RequiredIfNull;
+import io.github.sashirestela.slimvalidator.constraints.Size;
+import lombok.Builder;
+import lombok.Value;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * One field, or class-level constraint, for every validator.
+ */
+@Value
+@Builder
+@FieldMatch(first = "password", second = "confirmPassword")
+@RequiredIfNull(fields = { "email" }, dependsOn = "phone")
+public class Constrained {
+
+    @Required
+    String name;
+
+    @Range(min = 1, max = 100)
+    Integer quantity;
+
+    @Size(min = 1, max = 10)
+    List<String> tags;
+
+    @ElementRange(min = -1.0, max = 1.0)
+    double[] samples;
+
+    @Finite
+    Double ratio;
+
+    @Extension({ "png", "jpg" })
+    Path image;
+
+    @ObjectType(schema = Schema.COLL, baseClass = String.class)
+    Object aliases;
+
+    @ObjectType(baseClass = String.class)
+    @ObjectType(schema = Schema.MAP, keyClass = String.class, baseClass = Integer.class)
+    Object reference;
+
+    String password;
+
+    String confirmPassword;
+
+    String email;
+
+    String phone;
+
+}
@@ -0,0 +1,30 @@
+package io.github.sashirestela.slimvalidator.benchmarks.data;
+
+import io.github.sashirestela.slimvalidator.constraints.Range;
+import io.github.sashirestela.slimvalidator.constraints.Required;
+import io.github.sashirestela.slimvalidator.constraints.Size;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class Customer {
+
+    @Required
+    @Size(max = 50)
+    String name;
+
+    @Required
+    @Size(max = 100)
+    String email;
+
+    @Range(min = 18, max = 120)
+    Integer age;
+
+    @Required
+    String country;
+
+    @Size(min = 7, max = 20)
+    String phone;
+
+}
@@ -0,0 +1,29 @@
+package io.github.sashirestela.slimvalidator.benchmarks.data;
+
+import io.github.sashirestela.slimvalidator.Valid;
+import io.github.sashirestela.slimvalidator.constraints.Required;
+import io.github.sashirestela.slimvalidator.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Mutable so that employees and their manager can reference each other.
+ */
+@Getter
+@Setter
+public class Employee {
+
+    @Required
+    @Size(max = 30)
+    private String name;
+
+    @Valid
+    private Employee manager;
+
+    @Valid
+    private List<Employee> reports = new ArrayList<>();
+
+}
@@ -0,0 +1,97 @@
+package io.github.sashirestela.slimvalidator.benchmarks.data;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Creates the objects to validate. The invalid percent sets how many out of every ten objects, or
+ * elements of a collection, do not accomplish their constraints: 0 for valid inputs, 10 for mostly
+ * valid inputs, and 90 for mostly invalid inputs.
+ */
+public class Fixtures {
+
+    private static final String LONG_TEXT = "This text is too long for any constrained field.";
+
+    private Fixtures() {
+    }
+
+    public static Constrained constrained(boolean valid) {
+        return Constrained.builder()
+                .name(valid ? "Widget" : null)
+                .quantity(valid ? 10 : 1000)
+                .tags(valid ? List.of("one", "two") : List.of())
+                .samples(samples(valid))
+                .ratio(valid ? 0.5 : Double.NaN)
+                .image(Path.of(valid ? "image.png" : "image.gif"))
+                .aliases(valid ? List.of("first", "second") : List.of("first", 2))
+                .reference(valid ? Map.of("one", 1, "two", 2) : Map.of("one", "1"))
+                .password("secret")
+                .confirmPassword(valid ? "secret" : "other")
+                .email(valid ? "someone@mail.com" : null)
+                .build();
+    }
+
+    public static Customer flat(int invalidPercent) {
+        var valid = isValid(0, invalidPercent);
+        return Customer.builder()
+                .name("Peter James")
+                .email(valid ? "peter.james@mail.com" : null)
+                .age(valid ? 33 : 10)
+                .country("Peru")
+                .phone(valid ? "555-1234" : "555")
+                .build();
+    }
+
+    public static Category deep(int invalidPercent, int depth) {
+        Category category = null;
+        for (var level = depth - 1; level >= 0; level--) {
+            category = Category.builder()
+                    .name(isValid(level, invalidPercent) ? "Level " + level : LONG_TEXT)
+                    .subcategory(category)
+                    .build();
+        }
+        return category;
+    }
+
+    public static Order large(int invalidPercent, int size) {
+        List<Order.Line> lines = new ArrayList<>(size);
+        for (var i = 0; i < size; i++) {
+            var valid = isValid(i, invalidPercent);
+            lines.add(Order.Line.builder()
+                    .product(valid ? "Product " + (i % 100) : LONG_TEXT)
+                    .quantity(valid ? 1 + (i % 1000) : 0)
+                    .build());
+        }
+        return Order.builder().id("ORD-1").lines(lines).build();
+    }
+
+    public static Employee cyclic(int invalidPercent, int size) {
+        var manager = new Employee();
+        manager.setName("Manager");
+        for (var i = 0; i < size; i++) {
+            var report = new Employee();
+            report.setName(isValid(i, invalidPercent) ? "Employee " + i : LONG_TEXT);
+            report.setManager(manager);
+            manager.getReports().add(report);
+        }
+        return manager;
+    }
+
+    private static double[] samples(boolean valid) {
+        var samples = new double[64];
+        for (var i = 0; i < samples.length; i++) {
+            samples[i] = Math.sin(i);
+        }
+        if (!valid) {
+            samples[samples.length - 1] = 2.0;
+        }
+        return samples;
+    }
+
+    private static boolean isValid(int index, int invalidPercent) {
+        return (index % 10) * 10 >= invalidPercent;
+    }
+
+}
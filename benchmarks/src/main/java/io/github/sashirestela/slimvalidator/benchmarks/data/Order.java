@@ -0,0 +1,36 @@
+package io.github.sashirestela.slimvalidator.benchmarks.data;
+
+import io.github.sashirestela.slimvalidator.constraints.Range;
+import io.github.sashirestela.slimvalidator.constraints.Required;
+import io.github.sashirestela.slimvalidator.constraints.Size;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+@Builder
+public class Order {
+
+    @Required
+    String id;
+
+    @Required
+    @Size(min = 1, max = 1_000_000)
+    List<Line> lines;
+
+    @Value
+    @Builder
+    public static class Line {
+
+        @Required
+        @Size(max = 30)
+        String product;
+
+        @Required
+        @Range(min = 1, max = 1000)
+        Integer quantity;
+
+    }
+
+}
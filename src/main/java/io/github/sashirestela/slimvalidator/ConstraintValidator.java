@@ -1,9 +1,12 @@
 package io.github.sashirestela.slimvalidator;
 
 import java.lang.annotation.Annotation;
+import java.util.Locale;
 
 /**
- * Defines the behavior of every validator class.
+ * Defines the behavior of every validator class. A validator is instantiated and initialized only
+ * once per constraint annotation, and then it is shared by all the validations, so it must not
+ * change its state after {@link #initialize(Annotation) initialize}.
  */
 public interface ConstraintValidator<A extends Annotation, T> {
 
@@ -21,6 +24,17 @@ public interface ConstraintValidator<A extends Annotation, T> {
      */
     String getMessage();
 
+    /**
+     * Get the message from this validator in a specific language. By default it is the same as
+     * {@link #getMessage() getMessage}.
+     * 
+     * @param locale Locale of the message.
+     * @return The prepared message.
+     */
+    default String getMessage(Locale locale) {
+        return getMessage();
+    }
+
     /**
      * Execute the object validation against the constraint.
      * 
@@ -1,25 +1,49 @@
 package io.github.sashirestela.slimvalidator;
 
+import io.github.sashirestela.slimvalidator.util.Node;
+
 /**
  * Detail of every constraint violation.
  */
 public class ConstraintViolation {
 
     private final Object value;
-    private final String name;
+    private final Node node;
+    private final boolean classLevel;
+    private String name;
     private final String message;
 
     public ConstraintViolation(Object value, String name, String message) {
         this.value = value;
+        this.node = null;
+        this.classLevel = false;
         this.name = name;
         this.message = message;
     }
 
+    /**
+     * Creates a violation whose name is rendered from the node path only when it is read.
+     * 
+     * @param value      The invalid value.
+     * @param node       Path to the invalid value.
+     * @param classLevel Whether the violated constraint is a class-level one.
+     * @param message    The violation message.
+     */
+    ConstraintViolation(Object value, Node node, boolean classLevel, String message) {
+        this.value = value;
+        this.node = node;
+        this.classLevel = classLevel;
+        this.message = message;
+    }
+
     public Object getValue() {
         return this.value;
     }
 
     public String getName() {
+        if (this.name == null) {
+            this.name = renderName();
+        }
         return this.name;
     }
 
@@ -27,4 +51,12 @@ public class ConstraintViolation {
         return this.message;
     }
 
+    private String renderName() {
+        if (classLevel) {
+            return node.isRoot() ? "" : "in ".concat(node.toString());
+        } else {
+            return node.toString();
+        }
+    }
+
 }
@@ -0,0 +1,18 @@
+package io.github.sashirestela.slimvalidator;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to mark any class whose objects, and the objects they reference, never change after
+ * being created. A validator remembers the objects of this class that accomplish all their
+ * constraints, so validating them again is just a lookup.
+ */
+@Documented
+@Target({ ElementType.TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Immutable {
+}
@@ -0,0 +1,148 @@
+package io.github.sashirestela.slimvalidator;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+import java.lang.annotation.Annotation;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Listener that emits Java Flight Recorder events for validations, metadata builds and slow
+ * constraint checks. The validator asks whether the events are enabled in a running recording once
+ * per validation, so without recording it neither measures times nor creates events.
+ */
+public class JfrValidationListener implements ValidationListener {
+
+    private static final Duration DEFAULT_SLOW_CONSTRAINT_THRESHOLD = Duration.ofMillis(1);
+
+    private static final EventType VALIDATION_TYPE = EventType.getEventType(ValidationEvent.class);
+    private static final EventType METADATA_BUILD_TYPE = EventType.getEventType(MetadataBuildEvent.class);
+    private static final EventType SLOW_CONSTRAINT_TYPE = EventType.getEventType(SlowConstraintEvent.class);
+
+    private final long slowConstraintNanos;
+
+    public JfrValidationListener() {
+        this(DEFAULT_SLOW_CONSTRAINT_THRESHOLD);
+    }
+
+    /**
+     * Constructor with a custom threshold for slow constraint checks.
+     * 
+     * @param slowConstraintThreshold Minimum duration of a constraint check to emit an event.
+     */
+    public JfrValidationListener(Duration slowConstraintThreshold) {
+        this.slowConstraintNanos = slowConstraintThreshold.toNanos();
+    }
+
+    @Override
+    public boolean isValidationEnabled() {
+        return VALIDATION_TYPE.isEnabled();
+    }
+
+    @Override
+    public boolean isConstraintCheckEnabled() {
+        return SLOW_CONSTRAINT_TYPE.isEnabled();
+    }
+
+    @Override
+    public void onValidationEnd(Object object, int objectCount, List<ConstraintViolation> violations, long nanos) {
+        if (VALIDATION_TYPE.isEnabled()) {
+            var event = new ValidationEvent();
+            event.className = object == null ? null : object.getClass().getName();
+            event.objectCount = objectCount;
+            event.violationCount = violations.size();
+            event.elapsed = nanos;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void onMetadataBuild(Class<?> clazz, long nanos) {
+        if (METADATA_BUILD_TYPE.isEnabled()) {
+            var event = new MetadataBuildEvent();
+            event.className = clazz.getName();
+            event.elapsed = nanos;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void onConstraintCheck(Annotation annotation, Object value, boolean valid, long nanos) {
+        if (nanos >= slowConstraintNanos && SLOW_CONSTRAINT_TYPE.isEnabled()) {
+            var event = new SlowConstraintEvent();
+            event.constraint = annotation.annotationType().getName();
+            event.valueClassName = value == null ? null : value.getClass().getName();
+            event.valid = valid;
+            event.elapsed = nanos;
+            event.commit();
+        }
+    }
+
+    @Name("slimvalidator.Validation")
+    @Label("Validation")
+    @Category("SlimValidator")
+    @Description("Validation of an object graph")
+    @StackTrace(false)
+    static class ValidationEvent extends Event {
+
+        @Label("Class Name")
+        String className;
+
+        @Label("Object Count")
+        int objectCount;
+
+        @Label("Violation Count")
+        int violationCount;
+
+        @Label("Elapsed")
+        @Timespan(Timespan.NANOSECONDS)
+        long elapsed;
+
+    }
+
+    @Name("slimvalidator.MetadataBuild")
+    @Label("Metadata Build")
+    @Category("SlimValidator")
+    @Description("Reflective build of the constraint metadata of a class")
+    @StackTrace(false)
+    static class MetadataBuildEvent extends Event {
+
+        @Label("Class Name")
+        String className;
+
+        @Label("Elapsed")
+        @Timespan(Timespan.NANOSECONDS)
+        long elapsed;
+
+    }
+
+    @Name("slimvalidator.SlowConstraint")
+    @Label("Slow Constraint")
+    @Category("SlimValidator")
+    @Description("Constraint check that took longer than the threshold of the listener")
+    @StackTrace(false)
+    static class SlowConstraintEvent extends Event {
+
+        @Label("Constraint")
+        String constraint;
+
+        @Label("Value Class Name")
+        String valueClassName;
+
+        @Label("Valid")
+        boolean valid;
+
+        @Label("Elapsed")
+        @Timespan(Timespan.NANOSECONDS)
+        long elapsed;
+
+    }
+
+}
@@ -2,33 +2,124 @@ package io.github.sashirestela.slimvalidator;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
- * Keeps a record of unaccomplished constraints during the validation of an object.
+ * Keeps a record of unaccomplished constraints during the validation of an object. Visited objects
+ * are tracked by identity, so their equals and hashCode methods are never called.
  */
 public class ValidationContext {
 
+    private ValidationContext parent;
     private List<ConstraintViolation> violations;
     private Set<Object> visited;
+    private AtomicBoolean stopped;
+    private boolean failFast;
+    private ValidationListener checkListener;
 
     public ValidationContext() {
+        this(false);
+    }
+
+    public ValidationContext(boolean failFast) {
+        this(failFast, null);
+    }
+
+    ValidationContext(boolean failFast, ValidationListener checkListener) {
+        this(null, Collections.newSetFromMap(new IdentityHashMap<>()), null, failFast, checkListener);
+    }
+
+    private ValidationContext(ValidationContext parent, Set<Object> visited, AtomicBoolean stopped,
+            boolean failFast, ValidationListener checkListener) {
+        this.parent = parent;
         violations = new ArrayList<>();
-        visited = new HashSet<>();
+        this.visited = visited;
+        this.stopped = stopped;
+        this.failFast = failFast;
+        this.checkListener = checkListener;
+    }
+
+    /**
+     * Create a context to validate a part of the object graph in another thread. The children of a
+     * child context, at any depth, share its thread-safe set of visited objects, so an object reached
+     * from several threads is validated only once. The violations are kept apart in every context,
+     * but when it is fail-fast, all of them are done as soon as any of them finds a violation.
+     * The child context sees the objects visited by this context, so this context must not change
+     * until the child context is merged back.
+     * 
+     * @return The child context.
+     */
+    public ValidationContext child() {
+        if (parent != null) {
+            return new ValidationContext(parent, visited, stopped, failFast, checkListener);
+        }
+        return new ValidationContext(this, Collections.synchronizedSet(Collections.newSetFromMap(
+                new IdentityHashMap<>())), new AtomicBoolean(), failFast, checkListener);
+    }
+
+    /**
+     * Take the violations and visited objects of a child context, after its validation is finished.
+     * 
+     * @param child The child context.
+     */
+    public void merge(ValidationContext child) {
+        for (var violation : child.violations) {
+            if (failFast && !violations.isEmpty()) {
+                break;
+            }
+            addViolation(violation);
+        }
+        if (child.visited != visited) {
+            visited.addAll(child.visited);
+        }
+    }
+
+    /**
+     * Check if there is no need to keep validating.
+     * 
+     * @return True when it is fail-fast and a violation has already been found by this context or by
+     *         any context that shares its visited objects.
+     */
+    public boolean isDone() {
+        return failFast && (!violations.isEmpty() || (stopped != null && stopped.get()));
     }
 
     public boolean isVisited(Object object) {
-        return visited.contains(object);
+        return visited.contains(object) || (parent != null && parent.isVisited(object));
     }
 
-    public void visit(Object object) {
-        visited.add(object);
+    public int getVisitedCount() {
+        return visited.size();
+    }
+
+    /**
+     * Mark an object as visited. Between contexts that share the visited objects, only one of them
+     * can visit a given object.
+     * 
+     * @param object The object to be visited.
+     * @return True if the object was not visited before, false otherwise.
+     */
+    public boolean visit(Object object) {
+        return !(parent != null && parent.isVisited(object)) && visited.add(object);
     }
 
     public void addViolation(ConstraintViolation violation) {
         violations.add(violation);
+        if (failFast && stopped != null) {
+            stopped.set(true);
+        }
+    }
+
+    /**
+     * Get the listener to notify of constraint checks, which is resolved once per validation.
+     * 
+     * @return The listener, or null if constraint checks are not notified in this validation.
+     */
+    ValidationListener getCheckListener() {
+        return checkListener;
     }
 
     public List<ConstraintViolation> getViolations() {
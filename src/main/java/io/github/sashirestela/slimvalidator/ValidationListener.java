@@ -0,0 +1,73 @@
+package io.github.sashirestela.slimvalidator;
+
+import java.lang.annotation.Annotation;
+import java.util.List;
+
+/**
+ * Receives notifications of the validation process, for example, to collect metrics. All the
+ * methods do nothing by default, so implement only the needed ones. Methods can be called from
+ * different threads at the same time when objects or elements are validated in parallel, and they
+ * should return quickly because they are called in the middle of the validation.
+ */
+public interface ValidationListener {
+
+    /**
+     * Called once at the start of every call to the validate method. When it returns false, the
+     * validation is neither timed nor notified.
+     * 
+     * @return Whether onValidationStart and onValidationEnd must be called. True by default.
+     */
+    default boolean isValidationEnabled() {
+        return true;
+    }
+
+    /**
+     * Called once at the start of every validation. When it returns false, the constraint checks of
+     * that validation are neither timed nor notified.
+     * 
+     * @return Whether onConstraintCheck must be called. True by default.
+     */
+    default boolean isConstraintCheckEnabled() {
+        return true;
+    }
+
+    /**
+     * Called before validating an object with the validate method.
+     * 
+     * @param object The object to be validated.
+     */
+    default void onValidationStart(Object object) {
+    }
+
+    /**
+     * Called after validating an object with the validate method.
+     * 
+     * @param object      The validated object.
+     * @param objectCount Number of objects validated in the graph, including the object itself.
+     * @param violations  The unaccomplished constraints.
+     * @param nanos       Duration of the validation in nanoseconds.
+     */
+    default void onValidationEnd(Object object, int objectCount, List<ConstraintViolation> violations, long nanos) {
+    }
+
+    /**
+     * Called after building the metadata of a class, which happens once per class.
+     * 
+     * @param clazz The class.
+     * @param nanos Duration of the build in nanoseconds.
+     */
+    default void onMetadataBuild(Class<?> clazz, long nanos) {
+    }
+
+    /**
+     * Called after checking a constraint against a value.
+     * 
+     * @param annotation The constraint annotation.
+     * @param value      The checked value.
+     * @param valid      Whether the value accomplishes the constraint.
+     * @param nanos      Duration of the check in nanoseconds.
+     */
+    default void onConstraintCheck(Annotation annotation, Object value, boolean valid, long nanos) {
+    }
+
+}
@@ -0,0 +1,158 @@
+package io.github.sashirestela.slimvalidator;
+
+import io.github.sashirestela.slimvalidator.exception.ValidationException;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Reactive stage that validates the objects it receives and publishes them along with their
+ * violations. It requests objects from upstream only once a subscriber has requested results, as
+ * results published without subscribers would be lost. It requests a new object only after
+ * publishing a result, so no more than maxConcurrency objects are validated at the same time, and
+ * publishing blocks while the subscribers' buffers are full. Results keep the order of the objects
+ * only when maxConcurrency is 1.
+ */
+public class ValidationProcessor<T> extends SubmissionPublisher<ValidationResult<T>>
+        implements Flow.Processor<T, ValidationResult<T>> {
+
+    private final Validator validator;
+    private final int maxConcurrency;
+    private final AtomicInteger pending;
+    private final AtomicBoolean started;
+    private volatile boolean demanded;
+    private volatile boolean completed;
+    private volatile Flow.Subscription subscription;
+
+    public ValidationProcessor(Validator validator) {
+        this(validator, ForkJoinPool.commonPool(), 1, Flow.defaultBufferSize());
+    }
+
+    /**
+     * Constructor with all the options.
+     * 
+     * @param validator         Validator to use for every object.
+     * @param executor          Where the objects are validated and the results are delivered.
+     * @param maxConcurrency    Maximum number of objects being validated at the same time.
+     * @param maxBufferCapacity Maximum number of results buffered for each subscriber.
+     */
+    public ValidationProcessor(Validator validator, Executor executor, int maxConcurrency, int maxBufferCapacity) {
+        super(executor, maxBufferCapacity);
+        if (maxConcurrency < 1) {
+            throw new ValidationException("In ValidationProcessor, maxConcurrency must be greater than zero.");
+        }
+        this.validator = validator;
+        this.maxConcurrency = maxConcurrency;
+        this.pending = new AtomicInteger();
+        this.started = new AtomicBoolean();
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super ValidationResult<T>> subscriber) {
+        super.subscribe(new DemandingSubscriber<>(subscriber, this::onDemand));
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
+        startIfReady();
+    }
+
+    private void onDemand() {
+        demanded = true;
+        startIfReady();
+    }
+
+    private void startIfReady() {
+        if (subscription != null && demanded && started.compareAndSet(false, true)) {
+            subscription.request(maxConcurrency);
+        }
+    }
+
+    @Override
+    public void onNext(T item) {
+        pending.incrementAndGet();
+        getExecutor().execute(() -> {
+            try {
+                submit(new ValidationResult<>(item, validator.validate(item)));
+            } catch (RuntimeException e) {
+                subscription.cancel();
+                closeExceptionally(e);
+                return;
+            }
+            if (pending.decrementAndGet() == 0 && completed) {
+                close();
+            } else {
+                subscription.request(1);
+            }
+        });
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        closeExceptionally(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        completed = true;
+        if (pending.get() == 0) {
+            close();
+        }
+    }
+
+    /**
+     * Subscriber that notifies the processor when it requests results for the first time.
+     */
+    private static class DemandingSubscriber<R> implements Flow.Subscriber<R> {
+
+        private final Flow.Subscriber<? super R> subscriber;
+        private final Runnable onDemand;
+
+        DemandingSubscriber(Flow.Subscriber<? super R> subscriber, Runnable onDemand) {
+            this.subscriber = subscriber;
+            this.onDemand = onDemand;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+
+                @Override
+                public void request(long n) {
+                    subscription.request(n);
+                    if (n > 0) {
+                        onDemand.run();
+                    }
+                }
+
+                @Override
+                public void cancel() {
+                    subscription.cancel();
+                }
+
+            });
+        }
+
+        @Override
+        public void onNext(R item) {
+            subscriber.onNext(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            subscriber.onError(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            subscriber.onComplete();
+        }
+
+    }
+
+}
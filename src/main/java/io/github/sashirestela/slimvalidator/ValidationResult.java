@@ -0,0 +1,30 @@
+package io.github.sashirestela.slimvalidator;
+
+import java.util.List;
+
+/**
+ * Pairs a validated object with its unaccomplished constraints.
+ */
+public class ValidationResult<T> {
+
+    private final T object;
+    private final List<ConstraintViolation> violations;
+
+    public ValidationResult(T object, List<ConstraintViolation> violations) {
+        this.object = object;
+        this.violations = violations;
+    }
+
+    public T getObject() {
+        return this.object;
+    }
+
+    public List<ConstraintViolation> getViolations() {
+        return this.violations;
+    }
+
+    public boolean isValid() {
+        return this.violations.isEmpty();
+    }
+
+}
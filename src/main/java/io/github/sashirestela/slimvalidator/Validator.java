@@ -8,19 +8,66 @@ import io.github.sashirestela.slimvalidator.metadata.MetadataStore;
 import io.github.sashirestela.slimvalidator.util.Common;
 import io.github.sashirestela.slimvalidator.util.Node;
 import io.github.sashirestela.slimvalidator.util.Reflect;
+import io.github.sashirestela.slimvalidator.util.WeakIdentitySet;
+import lombok.Builder;
 
-import java.lang.annotation.Annotation;
-import java.lang.reflect.InvocationTargetException;
 import java.util.Collection;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.Stream;
 
 /**
  * Main class to execute validation process.
  */
 public class Validator {
 
+    private static final Node ROOT = new Node();
+
+    private final boolean failFast;
+    private final int parallelThreshold;
+    private final ForkJoinPool forkJoinPool;
+    private final ValidationListener listener;
+    private final Locale locale;
+    private final WeakIdentitySet validImmutables;
+
+    public Validator() {
+        this(false, 0, null, null, null);
+    }
+
+    /**
+     * Constructor with configuration options, reachable only through the builder, so new options
+     * can be added without breaking the callers.
+     * 
+     * @param failFast          Whether to stop the validation at the first violation, so the
+     *                          returned list will have one violation at most.
+     * @param parallelThreshold Minimum number of elements of a collection, map or array to validate
+     *                          them in parallel. Zero or less means always sequential.
+     * @param forkJoinPool      Pool where elements are validated in parallel. By default is the
+     *                          common pool.
+     * @param listener          Receives notifications of the validation process. By default is
+     *                          null, so there is no notification and no time measurement at all.
+     * @param locale            Language of the violation messages. By default is null, which means
+     *                          the default English messages.
+     */
+    @Builder
+    private Validator(boolean failFast, int parallelThreshold, ForkJoinPool forkJoinPool,
+            ValidationListener listener, Locale locale) {
+        this.failFast = failFast;
+        this.parallelThreshold = parallelThreshold;
+        this.forkJoinPool = Optional.ofNullable(forkJoinPool).orElseGet(ForkJoinPool::commonPool);
+        this.listener = listener;
+        this.locale = locale;
+        this.validImmutables = new WeakIdentitySet();
+    }
+
     /**
      * Check if all the object's fields accomplish their constraints.
      * 
@@ -29,97 +76,402 @@ public class Validator {
      * @return List of all the unaccomplished constraints.
      */
     public <T> List<ConstraintViolation> validate(T object) {
-        var context = new ValidationContext();
-        this.validateObject(object, context, new Node());
+        if (listener == null || !listener.isValidationEnabled()) {
+            var context = this.newContext();
+            this.validateObject(object, context, ROOT);
+            return context.getViolations();
+        }
+        listener.onValidationStart(object);
+        var start = System.nanoTime();
+        var context = this.newContext();
+        this.validateObject(object, context, ROOT);
+        var violations = context.getViolations();
+        listener.onValidationEnd(object, context.getVisitedCount(), violations, System.nanoTime() - start);
+        return violations;
+    }
+
+    /**
+     * Create the context of a validation, asking the listener only once whether it wants to be
+     * notified of the constraint checks, so they are not timed when it does not.
+     */
+    private ValidationContext newContext() {
+        var checkListener = listener != null && listener.isConstraintCheckEnabled() ? listener : null;
+        return new ValidationContext(failFast, checkListener);
+    }
+
+    /**
+     * Check if all the objects of a batch accomplish their constraints, one after another.
+     * 
+     * @param <T>     Generic type.
+     * @param objects Batch of objects whose fields will be validated.
+     * @return Map of every object, compared by identity, to the list of its unaccomplished
+     *         constraints.
+     */
+    public <T> Map<T, List<ConstraintViolation>> validateAll(Collection<T> objects) {
+        Map<T, List<ConstraintViolation>> violationsByObject = new IdentityHashMap<>();
+        for (var object : objects) {
+            violationsByObject.put(object, this.validate(object));
+        }
+        return violationsByObject;
+    }
+
+    /**
+     * Check if all the objects of a batch accomplish their constraints, validating every object as a
+     * separate task in an executor, and waiting for all of them to finish.
+     * 
+     * @param <T>      Generic type.
+     * @param objects  Batch of objects whose fields will be validated.
+     * @param executor Where the objects are validated, for example, a virtual thread executor.
+     * @return Map of every object, compared by identity, to the list of its unaccomplished
+     *         constraints.
+     */
+    public <T> Map<T, List<ConstraintViolation>> validateAll(Collection<T> objects, Executor executor) {
+        Map<T, CompletableFuture<List<ConstraintViolation>>> futuresByObject = new IdentityHashMap<>();
+        for (var object : objects) {
+            futuresByObject.put(object, CompletableFuture.supplyAsync(() -> this.validate(object), executor));
+        }
+        Map<T, List<ConstraintViolation>> violationsByObject = new IdentityHashMap<>();
+        try {
+            for (var entry : futuresByObject.entrySet()) {
+                violationsByObject.put(entry.getKey(), entry.getValue().join());
+            }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+        return violationsByObject;
+    }
+
+    /**
+     * Check if one field of the object accomplishes its constraints, including the constraints on the
+     * type argument of a collection or map field. The field value is not validated in cascade.
+     * 
+     * @param <T>       Generic type.
+     * @param object    Whose field will be validated.
+     * @param fieldName Name of the field.
+     * @return List of the unaccomplished constraints of the field. It is empty if the field does not
+     *         have constraints.
+     * @throws ValidationException If the class of the object does not have that field.
+     */
+    public <T> List<ConstraintViolation> validateProperty(T object, String fieldName) {
+        var context = this.newContext();
+        if (object != null) {
+            getFieldMetadata(object.getClass(), fieldName)
+                    .ifPresent(fieldMetadata -> this.validateFieldOnly(fieldMetadata,
+                            fieldMetadata.getAccessor().apply(object), ROOT.child(fieldName), context));
+        }
         return context.getViolations();
     }
 
+    /**
+     * Check if a value would accomplish the constraints of one field of a class, without creating any
+     * object of that class, including the constraints on the type argument of a collection or map
+     * field. The value is not validated in cascade.
+     * 
+     * @param <T>       Generic type.
+     * @param clazz     Class that contains the field.
+     * @param fieldName Name of the field.
+     * @param value     Value to be validated.
+     * @return List of the unaccomplished constraints of the field. It is empty if the field does not
+     *         have constraints.
+     * @throws ValidationException If the class does not have that field.
+     */
+    public <T> List<ConstraintViolation> validateValue(Class<T> clazz, String fieldName, Object value) {
+        var context = this.newContext();
+        getFieldMetadata(clazz, fieldName)
+                .ifPresent(fieldMetadata -> this.validateFieldOnly(fieldMetadata, value, ROOT.child(fieldName),
+                        context));
+        return context.getViolations();
+    }
+
+    /**
+     * Get the metadata of a field, which is only present if the field has constraints. The class is
+     * inspected only when there is no metadata, to tell apart a field without constraints from a
+     * misspelled field name.
+     */
+    private Optional<FieldMetadata> getFieldMetadata(Class<?> clazz, String fieldName) {
+        var fieldMetadata = MetadataStore.one().get(clazz, listener).getField(fieldName);
+        if (fieldMetadata.isEmpty() && !Reflect.hasField(clazz, fieldName)) {
+            throw new ValidationException("The class {0} does not have the field {1}.", clazz.getSimpleName(),
+                    fieldName, null);
+        }
+        return fieldMetadata;
+    }
+
+    /**
+     * Check lazily if the objects of a stream accomplish their constraints. Every object is validated
+     * only when its result is consumed, so neither the objects nor their violations are held in
+     * memory by this method.
+     * 
+     * @param <T>     Generic type.
+     * @param objects Stream of objects whose fields will be validated.
+     * @return Stream of results, each one with the object and its unaccomplished constraints.
+     */
+    public <T> Stream<ValidationResult<T>> validateStream(Stream<T> objects) {
+        return objects.map(object -> new ValidationResult<>(object, this.validate(object)));
+    }
+
     private void validateObject(Object object, ValidationContext context, Node node) {
-        if (Common.isPrimitiveOrWrapper(object)) {
+        if (object == null || Common.isPrimitiveOrWrapper(object)) {
             return;
         }
         context.visit(object);
+        this.validateInstance(object, context, node);
+    }
+
+    private void validateInstance(Object object, ValidationContext context, Node node) {
         var clazz = object.getClass();
-        var classMetadata = MetadataStore.one().get(clazz);
+        var classMetadata = MetadataStore.one().get(clazz, listener);
+        if (classMetadata.isImmutable()) {
+            this.validateImmutable(classMetadata, object, context, node);
+        } else {
+            this.validateMembers(classMetadata, object, context, node);
+        }
+    }
 
+    /**
+     * Validates an immutable object in a context of its own, so the result does not depend on the
+     * objects visited before. Only valid objects are remembered, because the violations refer to the
+     * invalid values and would keep the object reachable from the set.
+     */
+    private void validateImmutable(ClassMetadata classMetadata, Object object, ValidationContext context, Node node) {
+        if (validImmutables.contains(object)) {
+            return;
+        }
+        var immutableContext = new ValidationContext(failFast, context.getCheckListener());
+        immutableContext.visit(object);
+        this.validateMembers(classMetadata, object, immutableContext, node);
+        if (immutableContext.getViolations().isEmpty()) {
+            validImmutables.add(object);
+        } else {
+            context.merge(immutableContext);
+        }
+    }
+
+    private void validateMembers(ClassMetadata classMetadata, Object object, ValidationContext context, Node node) {
         this.validateClassLevel(classMetadata, object, context, node);
 
         for (var fieldMetadata : classMetadata.getFields()) {
+            if (context.isDone()) {
+                return;
+            }
             this.validateFieldLevel(fieldMetadata, object, context, node);
         }
     }
 
     private void validateClassLevel(ClassMetadata classMetadata, Object object, ValidationContext context, Node node) {
         for (var annotationMetadata : classMetadata.getAnnotations()) {
-            var annotation = annotationMetadata.getAnnotation();
-            var violationOptional = this.validateAnnotation(annotationMetadata, annotation, object, pathName(node));
-            if (violationOptional.isPresent()) {
-                context.addViolation(violationOptional.get());
+            if (context.isDone()) {
+                return;
             }
+            this.validateAnnotation(annotationMetadata, object, node, true, context);
         }
     }
 
-    private String pathName(Node node) {
-        var nodeStr = node.toString();
-        return nodeStr.isBlank() ? "" : "in ".concat(nodeStr);
+    private void validateFieldLevel(FieldMetadata fieldMetadata, Object object, ValidationContext context, Node node) {
+        var fieldNode = node.child(fieldMetadata.getName());
+        var fieldValue = fieldMetadata.getAccessor().apply(object);
+        this.validateFieldConstraints(fieldMetadata, fieldValue, fieldNode, context);
+        if (!fieldMetadata.isCascade() || fieldValue == null || context.isDone() || context.isVisited(fieldValue)) {
+            return;
+        }
+        var elementAnnotations = fieldMetadata.getElementAnnotations();
+        if (fieldValue instanceof Collection) {
+            var collection = (Collection<?>) fieldValue;
+            if (isParallel(collection.size())) {
+                this.validateInParallel(collection.toArray(), false, elementAnnotations, context, fieldNode);
+                return;
+            }
+            var i = 0;
+            for (var item : collection) {
+                if (context.isDone()) {
+                    return;
+                }
+                this.validateElement(elementAnnotations, item, context, fieldNode.child(i++));
+            }
+        } else if (fieldValue instanceof Map) {
+            var map = (Map<?, ?>) fieldValue;
+            if (isParallel(map.size())) {
+                this.validateInParallel(map.entrySet().toArray(), true, elementAnnotations, context, fieldNode);
+                return;
+            }
+            for (var entry : map.entrySet()) {
+                if (context.isDone()) {
+                    return;
+                }
+                this.validateElement(elementAnnotations, entry.getValue(), context, fieldNode.child(entry.getKey()));
+            }
+        } else if (fieldValue instanceof Object[]) {
+            var array = (Object[]) fieldValue;
+            if (isParallel(array.length)) {
+                this.validateInParallel(array, false, elementAnnotations, context, fieldNode);
+                return;
+            }
+            var i = 0;
+            for (var item : array) {
+                if (context.isDone()) {
+                    return;
+                }
+                this.validateElement(elementAnnotations, item, context, fieldNode.child(i++));
+            }
+        } else if (!fieldValue.getClass().isArray() && !Common.isPrimitiveOrWrapper(fieldValue)
+                && context.visit(fieldValue)) {
+            this.validateInstance(fieldValue, context, fieldNode);
+        }
     }
 
-    private void validateFieldLevel(FieldMetadata fieldMetadata, Object object, ValidationContext context, Node node) {
-        var fieldName = fieldMetadata.getName();
-        var fieldValue = Reflect.getValue(object, fieldName);
+    private void validateFieldConstraints(FieldMetadata fieldMetadata, Object fieldValue, Node fieldNode,
+            ValidationContext context) {
         for (var annotationMetadata : fieldMetadata.getAnnotations()) {
-            var annotation = annotationMetadata.getAnnotation();
-            var violationOptional = this.validateAnnotation(annotationMetadata, annotation, fieldValue,
-                    node.child(fieldName).toString());
-            if (violationOptional.isPresent()) {
-                context.addViolation(violationOptional.get());
+            if (context.isDone()) {
+                return;
             }
+            this.validateAnnotation(annotationMetadata, fieldValue, fieldNode, false, context);
         }
-        if (context.isVisited(fieldValue) || fieldValue == null) {
+    }
+
+    /**
+     * Validates a field value against its constraints and the constraints on its elements, without
+     * validating any object in cascade.
+     */
+    private void validateFieldOnly(FieldMetadata fieldMetadata, Object fieldValue, Node fieldNode,
+            ValidationContext context) {
+        this.validateFieldConstraints(fieldMetadata, fieldValue, fieldNode, context);
+        var elementAnnotations = fieldMetadata.getElementAnnotations();
+        if (elementAnnotations.isEmpty()) {
             return;
         }
         if (fieldValue instanceof Collection) {
             var i = 0;
             for (var item : (Collection<?>) fieldValue) {
-                this.validateObject(item, context, node.child(fieldName).child((String.valueOf(i++))));
+                this.validateElementConstraints(elementAnnotations, item, context, fieldNode.child(i++));
             }
         } else if (fieldValue instanceof Map) {
             for (var entry : ((Map<?, ?>) fieldValue).entrySet()) {
-                this.validateObject(entry.getValue(), context, node.child(fieldName).child(entry.getKey().toString()));
+                this.validateElementConstraints(elementAnnotations, entry.getValue(), context,
+                        fieldNode.child(entry.getKey()));
             }
-        } else if (fieldValue.getClass().isArray()) {
-            var i = 0;
-            for (var item : (Object[]) fieldValue) {
-                this.validateObject(item, context, node.child(fieldName).child((String.valueOf(i++))));
+        }
+    }
+
+    /**
+     * Validates an element of a collection, map or array against the constraints on the type argument
+     * of the field, and then validates its own fields.
+     */
+    private void validateElement(List<AnnotationMetadata> elementAnnotations, Object element,
+            ValidationContext context, Node elementNode) {
+        this.validateElementConstraints(elementAnnotations, element, context, elementNode);
+        if (!context.isDone()) {
+            this.validateObject(element, context, elementNode);
+        }
+    }
+
+    private void validateElementConstraints(List<AnnotationMetadata> elementAnnotations, Object element,
+            ValidationContext context, Node elementNode) {
+        for (var annotationMetadata : elementAnnotations) {
+            if (context.isDone()) {
+                return;
             }
+            this.validateAnnotation(annotationMetadata, element, elementNode, false, context);
+        }
+    }
+
+    private boolean isParallel(int size) {
+        return (parallelThreshold > 0 && size >= parallelThreshold);
+    }
+
+    private void validateInParallel(Object[] elements, boolean areEntries, List<AnnotationMetadata> elementAnnotations,
+            ValidationContext context, Node node) {
+        var chunkSize = Math.max(1, elements.length / (forkJoinPool.getParallelism() * 4));
+        var task = new ElementsTask(elements, areEntries, elementAnnotations, 0, elements.length, chunkSize,
+                context.child(), node);
+        context.merge(forkJoinPool.invoke(task));
+    }
+
+    private void validateAnnotation(AnnotationMetadata annotationMetadata, Object value, Node node,
+            boolean classLevel, ValidationContext context) {
+        var constraintValidator = annotationMetadata.getValidator();
+        if (constraintValidator == null) {
+            return;
+        }
+        var checkListener = context.getCheckListener();
+        boolean valid;
+        if (checkListener == null) {
+            valid = constraintValidator.isValid(value);
         } else {
-            this.validateObject(fieldValue, context, node.child(fieldName));
+            var start = System.nanoTime();
+            valid = constraintValidator.isValid(value);
+            checkListener.onConstraintCheck(annotationMetadata.getAnnotation(), value, valid, System.nanoTime() - start);
+        }
+        if (!valid) {
+            var message = annotationMetadata.getMessage(locale);
+            context.addViolation(new ConstraintViolation(value, node, classLevel, message));
         }
     }
 
-    @SuppressWarnings("unchecked")
-    private <A extends Annotation, T> Optional<ConstraintViolation> validateAnnotation(
-            AnnotationMetadata annotationMetadata, A annotation, T value, String pathName) {
-        var constraintValidatorClass = annotationMetadata.getValidatedBy();
-        if (constraintValidatorClass == null) {
-            return Optional.empty();
+    /**
+     * Validates a range of elements, splitting it in halves until reaching the chunk size. Every
+     * chunk is validated with its own child context and the results are merged back in index order.
+     * The chunks share the visited objects, so an object reached from several chunks is validated
+     * only once, by the chunk that reaches it first.
+     */
+    private class ElementsTask extends RecursiveTask<ValidationContext> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient Object[] elements;
+        private final boolean areEntries;
+        private final transient List<AnnotationMetadata> elementAnnotations;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+        private final transient ValidationContext context;
+        private final transient Node node;
+
+        ElementsTask(Object[] elements, boolean areEntries, List<AnnotationMetadata> elementAnnotations, int from,
+                int to, int chunkSize, ValidationContext context, Node node) {
+            this.elements = elements;
+            this.areEntries = areEntries;
+            this.elementAnnotations = elementAnnotations;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+            this.context = context;
+            this.node = node;
         }
-        try {
-            var constraintValidator = constraintValidatorClass
-                    .getConstructor()
-                    .newInstance();
-            constraintValidator.initialize(annotation);
-            if (constraintValidator.isValid(value)) {
-                return Optional.empty();
+
+        @Override
+        protected ValidationContext compute() {
+            if (to - from <= chunkSize) {
+                var childContext = context.child();
+                for (var i = from; i < to && !childContext.isDone(); i++) {
+                    validateElementAt(i, childContext);
+                }
+                return childContext;
+            }
+            var middle = (from + to) >>> 1;
+            var leftTask = new ElementsTask(elements, areEntries, elementAnnotations, from, middle, chunkSize, context,
+                    node);
+            var rightTask = new ElementsTask(elements, areEntries, elementAnnotations, middle, to, chunkSize, context,
+                    node);
+            leftTask.fork();
+            var rightContext = rightTask.compute();
+            var leftContext = leftTask.join();
+            leftContext.merge(rightContext);
+            return leftContext;
+        }
+
+        private void validateElementAt(int index, ValidationContext childContext) {
+            if (areEntries) {
+                var entry = (Map.Entry<?, ?>) elements[index];
+                validateElement(elementAnnotations, entry.getValue(), childContext, node.child(entry.getKey()));
             } else {
-                var message = constraintValidator.getMessage();
-                return Optional.of(new ConstraintViolation(value, pathName, message));
+                validateElement(elementAnnotations, elements[index], childContext, node.child(index));
             }
-        } catch (InstantiationException | IllegalAccessException | IllegalArgumentException | InvocationTargetException
-                | NoSuchMethodException | SecurityException e) {
-            throw new ValidationException("Cannot instantiate the class {0}.", constraintValidatorClass.getSimpleName(),
-                    e);
         }
+
     }
 
 }
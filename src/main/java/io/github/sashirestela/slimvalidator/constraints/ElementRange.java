@@ -0,0 +1,22 @@
+package io.github.sashirestela.slimvalidator.constraints;
+
+import io.github.sashirestela.slimvalidator.Constraint;
+import io.github.sashirestela.slimvalidator.validators.ElementRangeValidator;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Documented
+@Constraint(validatedBy = ElementRangeValidator.class)
+@Target({ ElementType.FIELD, ElementType.TYPE_USE })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ElementRange {
+
+    double min() default -Double.MAX_VALUE;
+
+    double max() default Double.MAX_VALUE;
+
+}
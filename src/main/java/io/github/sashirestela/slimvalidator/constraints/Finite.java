@@ -0,0 +1,17 @@
+package io.github.sashirestela.slimvalidator.constraints;
+
+import io.github.sashirestela.slimvalidator.Constraint;
+import io.github.sashirestela.slimvalidator.validators.FiniteValidator;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Documented
+@Constraint(validatedBy = FiniteValidator.class)
+@Target({ ElementType.FIELD, ElementType.TYPE_USE })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Finite {
+}
@@ -27,6 +27,13 @@ public @interface ObjectType {
         MAP_COLL     // Map<keyClass, Collection<baseClass>>
     }
 
+    enum Sampling {
+        FIRST,       // first maxChecks elements
+        STRIDED,     // maxChecks elements evenly spread
+        RANDOM,      // maxChecks elements picked at random
+        FULL         // all the elements
+    }
+
     Schema schema() default Schema.DIRECT;
 
     Class<?>[] baseClass();
@@ -39,6 +46,10 @@ public @interface ObjectType {
 
     int maxChecks() default 20;
 
+    Sampling sampling() default Sampling.FIRST;
+
+    long seed() default 0;
+
     boolean allowNull() default true;
 
     boolean allowInnerNull() default true;
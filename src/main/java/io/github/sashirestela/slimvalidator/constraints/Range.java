@@ -11,7 +11,7 @@ import java.lang.annotation.Target;
 
 @Documented
 @Constraint(validatedBy = RangeValidator.class)
-@Target({ ElementType.FIELD })
+@Target({ ElementType.FIELD, ElementType.TYPE_USE })
 @Retention(RetentionPolicy.RUNTIME)
 public @interface Range {
 
@@ -21,4 +21,6 @@ public @interface Range {
 
     boolean isVariableType() default false;
 
+    boolean isNumericText() default false;
+
 }
@@ -1,12 +1,18 @@
 package io.github.sashirestela.slimvalidator.metadata;
 
 import io.github.sashirestela.slimvalidator.ConstraintValidator;
+import lombok.AccessLevel;
 import lombok.Builder;
+import lombok.Getter;
 import lombok.Value;
 
 import java.lang.annotation.Annotation;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 @Value
 @Builder
@@ -15,6 +21,16 @@ public class ClassMetadata {
     String fullName;
     List<AnnotationMetadata> annotations;
     List<FieldMetadata> fields;
+    boolean immutable;
+
+    public Optional<FieldMetadata> getField(String name) {
+        for (var field : fields) {
+            if (field.getName().equals(name)) {
+                return Optional.of(field);
+            }
+        }
+        return Optional.empty();
+    }
 
     @Value
     @Builder
@@ -22,6 +38,9 @@ public class ClassMetadata {
 
         String name;
         List<AnnotationMetadata> annotations;
+        List<AnnotationMetadata> elementAnnotations;
+        Function<Object, Object> accessor;
+        boolean cascade;
 
     }
 
@@ -34,6 +53,24 @@ public class ClassMetadata {
         Map<String, Object> valuesByAnnotMethod;
         List<AnnotationMetadata> subAnnotations;
         Annotation annotation;
+        ConstraintValidator<Annotation, Object> validator;
+        String message;
+        @Getter(AccessLevel.NONE)
+        @Builder.Default
+        Map<Locale, String> messagesByLocale = new ConcurrentHashMap<>();
+
+        /**
+         * Get the message of the validator in a language, preparing it only once per locale.
+         * 
+         * @param locale Locale of the message. If it is null, the default message is returned.
+         * @return The prepared message.
+         */
+        public String getMessage(Locale locale) {
+            if (locale == null) {
+                return message;
+            }
+            return messagesByLocale.computeIfAbsent(locale, validator::getMessage);
+        }
 
     }
 
@@ -1,15 +1,26 @@
 package io.github.sashirestela.slimvalidator.metadata;
 
 import io.github.sashirestela.slimvalidator.Constraint;
+import io.github.sashirestela.slimvalidator.ConstraintValidator;
+import io.github.sashirestela.slimvalidator.Immutable;
 import io.github.sashirestela.slimvalidator.Valid;
+import io.github.sashirestela.slimvalidator.ValidationListener;
+import io.github.sashirestela.slimvalidator.exception.ValidationException;
 import io.github.sashirestela.slimvalidator.metadata.ClassMetadata.AnnotationMetadata;
 import io.github.sashirestela.slimvalidator.metadata.ClassMetadata.FieldMetadata;
+import io.github.sashirestela.slimvalidator.util.ClassScanner;
 import io.github.sashirestela.slimvalidator.util.Common;
+import io.github.sashirestela.slimvalidator.util.Reflect;
 import lombok.extern.slf4j.Slf4j;
 
 import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedParameterizedType;
 import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -18,37 +29,132 @@ import java.util.concurrent.ConcurrentHashMap;
 @Slf4j
 public class MetadataStore {
 
-    private static MetadataStore store = null;
+    private static final ClassValue<AnnotationType> annotationTypes = new ClassValue<>() {
 
-    private Map<String, ClassMetadata> classesByFullName;
+        @Override
+        protected AnnotationType computeValue(Class<?> clazz) {
+            return new AnnotationType(clazz);
+        }
+
+    };
+
+    private static final MetadataStore store = new MetadataStore();
+
+    private final Map<Class<?>, ClassMetadata> classesByType;
 
     private MetadataStore() {
-        classesByFullName = new ConcurrentHashMap<>();
+        classesByType = new ConcurrentHashMap<>();
     }
 
     public static MetadataStore one() {
-        if (store == null) {
-            store = new MetadataStore();
-        }
         return store;
     }
 
+    /**
+     * Get the metadata of a class, building it exactly once even if it is requested by many threads at
+     * the same time. Once built, reading it does not take any lock.
+     * 
+     * @param clazz The class.
+     * @return The metadata of the class.
+     */
     public ClassMetadata get(Class<?> clazz) {
-        var className = clazz.getName();
-        if (!classesByFullName.containsKey(className)) {
-            save(clazz);
+        return get(clazz, null);
+    }
+
+    /**
+     * Get the metadata of a class, as above, notifying the listener if the metadata is built.
+     * 
+     * @param clazz    The class.
+     * @param listener Listener of the build. It can be null.
+     * @return The metadata of the class.
+     */
+    public ClassMetadata get(Class<?> clazz, ValidationListener listener) {
+        var classMetadata = classesByType.get(clazz);
+        if (classMetadata == null) {
+            classMetadata = classesByType.computeIfAbsent(clazz, key -> build(key, listener));
+        }
+        return classMetadata;
+    }
+
+    public boolean isLoaded(Class<?> clazz) {
+        return classesByType.containsKey(clazz);
+    }
+
+    /**
+     * Build in advance the metadata of some classes, so their first validation does not pay for it.
+     * 
+     * @param classes The classes.
+     */
+    public void preload(Class<?>... classes) {
+        preload(Arrays.asList(classes), false);
+    }
+
+    /**
+     * Build in advance the metadata of some classes, so their first validation does not pay for it.
+     * 
+     * @param classes  The classes.
+     * @param parallel Whether to build them in parallel in the common pool.
+     */
+    public void preload(Collection<Class<?>> classes, boolean parallel) {
+        var stream = parallel ? classes.parallelStream() : classes.stream();
+        stream.forEach(this::get);
+        log.debug("The metadata of {} classes was preloaded", classes.size());
+    }
+
+    /**
+     * Build in advance the metadata of all the classes of a package and its subpackages, so their
+     * first validation does not pay for it. Classes that cannot be loaded or whose metadata cannot be
+     * built are skipped, for example, builders without getters whose fields copied the type
+     * annotations, or classes that refer to classes missing in the class path.
+     * 
+     * @param packageName Full name of the package.
+     * @param parallel    Whether to build them in parallel in the common pool.
+     */
+    public void preloadPackage(String packageName, boolean parallel) {
+        var classLoader = Optional.ofNullable(Thread.currentThread().getContextClassLoader())
+                .orElse(MetadataStore.class.getClassLoader());
+        var classes = ClassScanner.getClasses(packageName, classLoader);
+        var stream = parallel ? classes.parallelStream() : classes.stream();
+        stream.forEach(clazz -> {
+            try {
+                get(clazz);
+            } catch (ValidationException | LinkageError e) {
+                log.debug("The class {} was not preloaded: {}", clazz.getSimpleName(), e.toString());
+            }
+        });
+        log.debug("The metadata of the package {} was preloaded", packageName);
+    }
+
+    private ClassMetadata build(Class<?> clazz, ValidationListener listener) {
+        if (listener == null) {
+            return build(clazz);
         }
-        return classesByFullName.get(className);
+        var start = System.nanoTime();
+        var classMetadata = build(clazz);
+        listener.onMetadataBuild(clazz, System.nanoTime() - start);
+        return classMetadata;
     }
 
-    private void save(Class<?> clazz) {
+    private ClassMetadata build(Class<?> clazz) {
+        if (isPlatformClass(clazz)) {
+            return ClassMetadata.builder()
+                    .fullName(clazz.getName())
+                    .annotations(List.of())
+                    .fields(List.of())
+                    .build();
+        }
         List<FieldMetadata> fields = new ArrayList<>();
         for (var javaField : getFullFields(clazz)) {
             List<AnnotationMetadata> annotations = getContraintAnnotations(javaField.getDeclaredAnnotations());
-            if (!annotations.isEmpty()) {
+            List<AnnotationMetadata> elementAnnotations = getContraintAnnotations(getElementAnnotations(javaField));
+            if (!annotations.isEmpty() || !elementAnnotations.isEmpty()) {
                 var fieldMetadata = FieldMetadata.builder()
                         .name(javaField.getName())
                         .annotations(annotations)
+                        .elementAnnotations(elementAnnotations)
+                        .accessor(Reflect.getAccessor(clazz, javaField.getName()))
+                        .cascade(!Common.isPrimitiveOrWrapperType(javaField.getType())
+                                && !Common.isPrimitiveArrayType(javaField.getType()))
                         .build();
                 fields.add(fieldMetadata);
             }
@@ -58,9 +164,40 @@ public class MetadataStore {
                 .fullName(clazz.getName())
                 .annotations(annotations)
                 .fields(fields)
+                .immutable(clazz.isAnnotationPresent(Immutable.class))
                 .build();
-        classesByFullName.put(clazz.getName(), classMetadata);
         log.debug("The class {} was saved", clazz.getSimpleName());
+        return classMetadata;
+    }
+
+    /**
+     * Classes of the Java platform cannot have constraints, so they are not scanned at all. This
+     * avoids reflecting over the fields and annotations of values like dates or big numbers that are
+     * reached while validating in cascade.
+     */
+    private boolean isPlatformClass(Class<?> clazz) {
+        var classLoader = clazz.getClassLoader();
+        return classLoader == null || classLoader == ClassLoader.getPlatformClassLoader();
+    }
+
+    /**
+     * Get the annotations on the element type argument of a collection field, like List<@Range
+     * Integer>, or on the value type argument of a map field, like Map<String, @Size String>.
+     */
+    private Annotation[] getElementAnnotations(Field javaField) {
+        var annotatedType = javaField.getAnnotatedType();
+        if (!(annotatedType instanceof AnnotatedParameterizedType)) {
+            return new Annotation[0];
+        }
+        var typeArguments = ((AnnotatedParameterizedType) annotatedType).getAnnotatedActualTypeArguments();
+        var fieldType = javaField.getType();
+        if (Collection.class.isAssignableFrom(fieldType) && typeArguments.length == 1) {
+            return typeArguments[0].getAnnotations();
+        } else if (Map.class.isAssignableFrom(fieldType) && typeArguments.length == 2) {
+            return typeArguments[1].getAnnotations();
+        } else {
+            return new Annotation[0];
+        }
     }
 
     private Field[] getFullFields(Class<?> clazz) {
@@ -76,14 +213,13 @@ public class MetadataStore {
     private List<AnnotationMetadata> getContraintAnnotations(Annotation[] javaAnnotations) {
         List<AnnotationMetadata> annotations = new ArrayList<>();
         for (var javaAnnotation : javaAnnotations) {
-            var javaAnnotationType = javaAnnotation.annotationType();
-            if (!javaAnnotationType.isAnnotationPresent(Constraint.class)
-                    && !(javaAnnotation instanceof Valid)) {
+            var annotationType = annotationTypes.get(javaAnnotation.annotationType());
+            if (!annotationType.isRelevant()) {
                 continue;
             }
             Map<String, Object> valuesByAnnotMethod = new ConcurrentHashMap<>();
             List<AnnotationMetadata> subAnnotations = null;
-            for (var javaAnnotMethod : javaAnnotationType.getDeclaredMethods()) {
+            for (var javaAnnotMethod : annotationType.getAnnotMethods()) {
                 Object value;
                 try {
                     value = javaAnnotMethod.invoke(javaAnnotation, (Object[]) null);
@@ -96,17 +232,70 @@ public class MetadataStore {
                 }
                 valuesByAnnotMethod.put(javaAnnotMethod.getName(), value);
             }
-            var constraintClass = javaAnnotationType.getAnnotation(Constraint.class);
-            var validatedBy = constraintClass != null ? constraintClass.validatedBy() : null;
+            var validatedBy = annotationType.getValidatedBy();
+            var validator = createValidator(validatedBy, javaAnnotation);
             var annotationMetadata = AnnotationMetadata.builder()
                     .validatedBy(validatedBy)
                     .valuesByAnnotMethod(valuesByAnnotMethod)
                     .subAnnotations(Optional.ofNullable(subAnnotations).orElse(new ArrayList<>()))
                     .annotation(javaAnnotation)
+                    .validator(validator)
+                    .message(validator != null ? validator.getMessage() : null)
                     .build();
             annotations.add(annotationMetadata);
         }
         return annotations;
     }
 
+    @SuppressWarnings("unchecked")
+    private ConstraintValidator<Annotation, Object> createValidator(
+            @SuppressWarnings("rawtypes") Class<? extends ConstraintValidator> validatedBy, Annotation annotation) {
+        if (validatedBy == null) {
+            return null;
+        }
+        try {
+            var constraintValidator = (ConstraintValidator<Annotation, Object>) validatedBy
+                    .getConstructor()
+                    .newInstance();
+            constraintValidator.initialize(annotation);
+            return constraintValidator;
+        } catch (InstantiationException | IllegalAccessException | IllegalArgumentException | InvocationTargetException
+                | NoSuchMethodException | SecurityException e) {
+            throw new ValidationException("Cannot instantiate the class {0}.", validatedBy.getSimpleName(), e);
+        }
+    }
+
+    /**
+     * Reflective details of an annotation type, gathered only once no matter how many fields or
+     * classes are annotated with it.
+     */
+    private static class AnnotationType {
+
+        private final boolean relevant;
+        @SuppressWarnings("rawtypes")
+        private final Class<? extends ConstraintValidator> validatedBy;
+        private final Method[] annotMethods;
+
+        AnnotationType(Class<?> clazz) {
+            var constraintClass = clazz.getAnnotation(Constraint.class);
+            relevant = constraintClass != null || clazz == Valid.class;
+            validatedBy = constraintClass != null ? constraintClass.validatedBy() : null;
+            annotMethods = relevant ? clazz.getDeclaredMethods() : new Method[0];
+        }
+
+        boolean isRelevant() {
+            return relevant;
+        }
+
+        @SuppressWarnings("rawtypes")
+        Class<? extends ConstraintValidator> getValidatedBy() {
+            return validatedBy;
+        }
+
+        Method[] getAnnotMethods() {
+            return annotMethods;
+        }
+
+    }
+
 }
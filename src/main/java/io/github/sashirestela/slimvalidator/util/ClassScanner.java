@@ -0,0 +1,108 @@
+package io.github.sashirestela.slimvalidator.util;
+
+import io.github.sashirestela.slimvalidator.exception.ValidationException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Finds the classes of a package and its subpackages, either in directories or in jar files of the
+ * class path. Classes are loaded without being initialized.
+ */
+@Slf4j
+public class ClassScanner {
+
+    private static final String CLASS_SUFFIX = ".class";
+
+    private ClassScanner() {
+    }
+
+    /**
+     * Find the concrete and abstract classes of a package and its subpackages, excluding interfaces,
+     * annotations, and anonymous or local classes. Classes that cannot be loaded are skipped.
+     * 
+     * @param packageName Full name of the package.
+     * @param classLoader Class loader where the package is searched.
+     * @return List of the found classes.
+     */
+    public static List<Class<?>> getClasses(String packageName, ClassLoader classLoader) {
+        var packagePath = packageName.replace('.', '/');
+        List<String> classNames = new ArrayList<>();
+        try {
+            var resources = classLoader.getResources(packagePath);
+            while (resources.hasMoreElements()) {
+                var resource = resources.nextElement();
+                if ("jar".equals(resource.getProtocol())) {
+                    classNames.addAll(getClassNamesFromJar(resource, packagePath));
+                } else {
+                    classNames.addAll(getClassNamesFromDirectory(resource, packageName));
+                }
+            }
+        } catch (IOException | URISyntaxException e) {
+            throw new ValidationException("Cannot scan the package {0}.", packageName, e);
+        }
+        List<Class<?>> classes = new ArrayList<>();
+        for (var className : classNames) {
+            loadClass(className, classLoader)
+                    .filter(clazz -> !clazz.isInterface() && !clazz.isAnonymousClass() && !clazz.isLocalClass())
+                    .ifPresent(classes::add);
+        }
+        return classes;
+    }
+
+    private static List<String> getClassNamesFromJar(URL resource, String packagePath) throws IOException {
+        var connection = (JarURLConnection) resource.openConnection();
+        connection.setUseCaches(false);
+        try (var jarFile = connection.getJarFile()) {
+            return jarFile.stream()
+                    .map(entry -> entry.getName())
+                    .filter(name -> name.startsWith(packagePath + "/") && isClassFile(name))
+                    .map(name -> toClassName(name.replace('/', '.')))
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static List<String> getClassNamesFromDirectory(URL resource, String packageName)
+            throws IOException, URISyntaxException {
+        var directory = Paths.get(resource.toURI());
+        try (Stream<Path> paths = Files.walk(directory)) {
+            return paths.filter(path -> isClassFile(path.getFileName().toString()))
+                    .map(path -> {
+                        var relativeName = directory.relativize(path).toString().replace(path.getFileSystem()
+                                .getSeparator(), ".");
+                        return packageName + "." + toClassName(relativeName);
+                    })
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static boolean isClassFile(String fileName) {
+        return fileName.endsWith(CLASS_SUFFIX) && !fileName.endsWith("module-info" + CLASS_SUFFIX)
+                && !fileName.endsWith("package-info" + CLASS_SUFFIX);
+    }
+
+    private static String toClassName(String fileName) {
+        return fileName.substring(0, fileName.length() - CLASS_SUFFIX.length());
+    }
+
+    private static Optional<Class<?>> loadClass(String className, ClassLoader classLoader) {
+        try {
+            return Optional.of(Class.forName(className, false, classLoader));
+        } catch (ClassNotFoundException | LinkageError e) {
+            log.debug("The class {} was skipped because it cannot be loaded: {}", className, e.toString());
+            return Optional.empty();
+        }
+    }
+
+}
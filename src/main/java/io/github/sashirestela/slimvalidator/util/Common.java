@@ -1,9 +1,13 @@
 package io.github.sashirestela.slimvalidator.util;
 
 import java.util.Arrays;
+import java.util.Set;
 
 public class Common {
 
+    private static final Set<Class<?>> WRAPPER_CLASSES = Set.of(Character.class, Byte.class, Short.class,
+            Integer.class, Long.class, Float.class, Double.class, Boolean.class, String.class);
+
     private Common() {
     }
 
@@ -14,9 +18,15 @@ public class Common {
     }
 
     public static boolean isPrimitiveOrWrapper(Object value) {
-        var wrapper = Arrays.asList(Character.class, Byte.class, Short.class, Integer.class, Long.class, Float.class,
-                Double.class, Boolean.class, String.class);
-        return (value != null && (value.getClass().isPrimitive() || wrapper.contains(value.getClass())));
+        return (value != null && isPrimitiveOrWrapperType(value.getClass()));
+    }
+
+    public static boolean isPrimitiveOrWrapperType(Class<?> clazz) {
+        return (clazz.isPrimitive() || WRAPPER_CLASSES.contains(clazz));
+    }
+
+    public static boolean isPrimitiveArrayType(Class<?> clazz) {
+        return (clazz.isArray() && clazz.getComponentType().isPrimitive());
     }
 
 }
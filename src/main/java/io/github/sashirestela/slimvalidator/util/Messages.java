@@ -0,0 +1,41 @@
+package io.github.sashirestela.slimvalidator.util;
+
+import java.text.MessageFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.ResourceBundle.Control;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Message templates of the built-in constraints, read from the resource bundle
+ * io/github/sashirestela/slimvalidator/messages. Bundles are loaded once per locale, and a locale
+ * without its own bundle falls back to the default English messages, not to the JVM locale.
+ */
+public class Messages {
+
+    private static final String BUNDLE_NAME = "io.github.sashirestela.slimvalidator.messages";
+
+    private static final Control CONTROL = Control.getNoFallbackControl(Control.FORMAT_PROPERTIES);
+
+    private static final Map<Locale, ResourceBundle> bundlesByLocale = new ConcurrentHashMap<>();
+
+    private Messages() {
+    }
+
+    /**
+     * Get a message template filled in with its arguments. Every template is a MessageFormat pattern,
+     * even without arguments, so quotes are written the same way in all of them.
+     * 
+     * @param locale    Locale of the message.
+     * @param key       Key of the template.
+     * @param arguments Arguments already formatted as texts.
+     * @return The message.
+     */
+    public static String format(Locale locale, String key, String... arguments) {
+        var template = bundlesByLocale.computeIfAbsent(locale, l -> ResourceBundle.getBundle(BUNDLE_NAME, l, CONTROL))
+                .getString(key);
+        return new MessageFormat(template, locale).format(arguments);
+    }
+
+}
@@ -1,16 +1,15 @@
 package io.github.sashirestela.slimvalidator.util;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.stream.Collectors;
-
+/**
+ * Immutable link in the path to a validated value. The path is rendered as text only when it is
+ * requested, so building nodes for values that accomplish their constraints is cheap.
+ */
 public class Node {
 
-    private Node parent;
-    private String name;
+    private final Node parent;
+    private final Object name;
 
-    public Node(Node parent, String name) {
+    public Node(Node parent, Object name) {
         this.parent = parent;
         this.name = name;
     }
@@ -19,23 +18,29 @@ public class Node {
         this(null, null);
     }
 
-    public Node child(String name) {
+    public Node child(Object name) {
         return new Node(this, name);
     }
 
+    public boolean isRoot() {
+        return parent == null;
+    }
+
     public String toString() {
-        return toList().stream().collect(Collectors.joining("."));
+        if (isRoot()) {
+            return "";
+        }
+        var path = new StringBuilder();
+        appendTo(path);
+        return path.toString();
     }
 
-    private List<String> toList() {
-        Node node = this;
-        List<String> path = new ArrayList<>();
-        while (node.parent != null) {
-            path.add(node.name);
-            node = node.parent;
+    private void appendTo(StringBuilder path) {
+        if (!parent.isRoot()) {
+            parent.appendTo(path);
+            path.append('.');
         }
-        Collections.reverse(path);
-        return path;
+        path.append(name);
     }
 
 }
@@ -2,21 +2,106 @@ package io.github.sashirestela.slimvalidator.util;
 
 import io.github.sashirestela.slimvalidator.exception.ValidationException;
 
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
 public class Reflect {
 
+    private static final ClassValue<Map<String, Function<Object, Object>>> accessorsByClass = new ClassValue<>() {
+
+        @Override
+        protected Map<String, Function<Object, Object>> computeValue(Class<?> clazz) {
+            return new ConcurrentHashMap<>();
+        }
+
+    };
+
     private Reflect() {
     }
 
     public static Object getValue(Object object, String fieldName) {
         var clazz = object.getClass();
+        return accessorsByClass.get(clazz)
+                .computeIfAbsent(fieldName, name -> getAccessor(clazz, name))
+                .apply(object);
+    }
+
+    /**
+     * Checks if a class, or any of its superclasses, declares a field.
+     *
+     * @param clazz     Class to be inspected.
+     * @param fieldName Name of the field.
+     * @return True if the field is declared, false otherwise.
+     */
+    public static boolean hasField(Class<?> clazz, String fieldName) {
+        for (var current = clazz; current != null; current = current.getSuperclass()) {
+            for (var field : current.getDeclaredFields()) {
+                if (field.getName().equals(fieldName)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Resolves, only once, the getter of a field as a function that can be called directly. Any
+     * exception thrown by the getter is wrapped in a ValidationException.
+     *
+     * @param clazz     Class that contains the field.
+     * @param fieldName Name of the field.
+     * @return Function that reads the field value from an object of the class.
+     */
+    public static Function<Object, Object> getAccessor(Class<?> clazz, String fieldName) {
         try {
-            var method = clazz.getMethod(getMethodName(fieldName), (Class<?>[]) null);
-            return method.invoke(object);
+            var method = clazz.getMethod(getMethodName(fieldName));
+            Function<Object, Object> lambdaGetter;
+            try {
+                lambdaGetter = createLambdaAccessor(method);
+            } catch (Throwable e) {
+                return createHandleAccessor(MethodHandles.publicLookup().unreflect(method), clazz, fieldName);
+            }
+            return object -> {
+                try {
+                    return lambdaGetter.apply(object);
+                } catch (Throwable e) {
+                    throw new ValidationException("Cannot read the field {0}.{1}().", clazz.getSimpleName(), fieldName,
+                            e);
+                }
+            };
         } catch (Exception e) {
             throw new ValidationException("Cannot read the field {0}.{1}().", clazz.getSimpleName(), fieldName, e);
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object> createLambdaAccessor(Method method) throws Throwable {
+        var lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup());
+        var getter = lookup.unreflect(method);
+        var callSite = LambdaMetafactory.metafactory(lookup, "apply", MethodType.methodType(Function.class),
+                MethodType.methodType(Object.class, Object.class), getter, getter.type().wrap());
+        return (Function<Object, Object>) callSite.getTarget().invoke();
+    }
+
+    private static Function<Object, Object> createHandleAccessor(MethodHandle getter, Class<?> clazz,
+            String fieldName) {
+        var genericGetter = getter.asType(MethodType.methodType(Object.class, Object.class));
+        return object -> {
+            try {
+                return genericGetter.invokeExact(object);
+            } catch (Throwable e) {
+                throw new ValidationException("Cannot read the field {0}.{1}().", clazz.getSimpleName(), fieldName,
+                        e);
+            }
+        };
+    }
+
     private static String getMethodName(String name) {
         return "get" + name.substring(0, 1).toUpperCase() + name.substring(1);
     }
@@ -0,0 +1,73 @@
+package io.github.sashirestela.slimvalidator.util;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Thread-safe set that compares its objects by identity and does not prevent them from being
+ * garbage collected. Collected objects are removed from the set on the next access.
+ */
+public class WeakIdentitySet {
+
+    private final Set<IdentityReference> references;
+    private final ReferenceQueue<Object> queue;
+
+    public WeakIdentitySet() {
+        references = ConcurrentHashMap.newKeySet();
+        queue = new ReferenceQueue<>();
+    }
+
+    public boolean contains(Object object) {
+        expunge();
+        return references.contains(new IdentityReference(object, null));
+    }
+
+    public void add(Object object) {
+        expunge();
+        references.add(new IdentityReference(object, queue));
+    }
+
+    public int size() {
+        expunge();
+        return references.size();
+    }
+
+    private void expunge() {
+        Reference<?> reference;
+        while ((reference = queue.poll()) != null) {
+            references.remove(reference);
+        }
+    }
+
+    private static class IdentityReference extends WeakReference<Object> {
+
+        private final int hash;
+
+        IdentityReference(Object object, ReferenceQueue<Object> queue) {
+            super(object, queue);
+            hash = System.identityHashCode(object);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof IdentityReference)) {
+                return false;
+            }
+            var object = get();
+            return object != null && object == ((IdentityReference) other).get();
+        }
+
+    }
+
+}
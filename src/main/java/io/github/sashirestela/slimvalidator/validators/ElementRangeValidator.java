@@ -0,0 +1,90 @@
+package io.github.sashirestela.slimvalidator.validators;
+
+import io.github.sashirestela.slimvalidator.ConstraintValidator;
+import io.github.sashirestela.slimvalidator.constraints.ElementRange;
+import io.github.sashirestela.slimvalidator.exception.ValidationException;
+
+import java.util.Locale;
+
+/**
+ * Checks that every element of a primitive array is within a closed range. Applies to fields of
+ * type: int[], long[], double[] or float[]. Elements are compared in plain loops, without boxing.
+ */
+public class ElementRangeValidator implements ConstraintValidator<ElementRange, Object> {
+
+    private NumericBounds bounds;
+    private String message;
+
+    @Override
+    public void initialize(ElementRange annotation) {
+        bounds = new NumericBounds("ElementRange", annotation.min(), annotation.max());
+        message = getMessage(Locale.ROOT);
+    }
+
+    @Override
+    public String getMessage() {
+        return message;
+    }
+
+    @Override
+    public String getMessage(Locale locale) {
+        return bounds.getMessage(locale, "elementRange");
+    }
+
+    @Override
+    public boolean isValid(Object value) {
+        if (value == null) {
+            return true;
+        }
+        if (value instanceof int[]) {
+            return isValid((int[]) value, bounds.getLongMin(), bounds.getLongMax());
+        } else if (value instanceof long[]) {
+            return isValid((long[]) value, bounds.getLongMin(), bounds.getLongMax());
+        } else if (value instanceof double[]) {
+            return isValid((double[]) value, bounds.getMin(), bounds.getMax());
+        } else if (value instanceof float[]) {
+            return isValid((float[]) value, bounds.getFloatMin(), bounds.getFloatMax());
+        } else {
+            throw new ValidationException("Cannot get numeric elements from {0}.", value.getClass().getSimpleName(),
+                    null);
+        }
+    }
+
+    private static boolean isValid(int[] array, long min, long max) {
+        for (var element : array) {
+            if (element < min || element > max) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isValid(long[] array, long min, long max) {
+        for (var element : array) {
+            if (element < min || element > max) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isValid(double[] array, double min, double max) {
+        for (var element : array) {
+            // Negated so that NaN is out of range
+            if (!(element >= min && element <= max)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isValid(float[] array, float min, float max) {
+        for (var element : array) {
+            if (!(element >= min && element <= max)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
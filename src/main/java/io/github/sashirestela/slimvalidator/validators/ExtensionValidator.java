@@ -3,10 +3,12 @@ package io.github.sashirestela.slimvalidator.validators;
 import io.github.sashirestela.slimvalidator.ConstraintValidator;
 import io.github.sashirestela.slimvalidator.constraints.Extension;
 import io.github.sashirestela.slimvalidator.exception.ValidationException;
+import io.github.sashirestela.slimvalidator.util.Messages;
 
 import java.io.File;
 import java.nio.file.Path;
 import java.util.Arrays;
+import java.util.Locale;
 
 /**
  * Checks that the file extension is one of an expected list. Applies to {@link java.nio.file.Path
@@ -16,18 +18,23 @@ public class ExtensionValidator implements ConstraintValidator<Extension, Object
 
     private String[] extensions;
     private boolean isVariableType;
+    private String message;
 
     @Override
     public void initialize(Extension annotation) {
         extensions = annotation.value().clone();
         isVariableType = annotation.isVariableType();
+        message = getMessage(Locale.ROOT);
     }
 
     @Override
     public String getMessage() {
-        var message = new StringBuilder();
-        message.append("extension must be one of ").append(Arrays.toString(extensions));
-        return message.toString();
+        return message;
+    }
+
+    @Override
+    public String getMessage(Locale locale) {
+        return Messages.format(locale, "extension", Arrays.toString(extensions));
     }
 
     @Override
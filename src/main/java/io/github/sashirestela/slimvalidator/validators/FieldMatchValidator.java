@@ -2,8 +2,10 @@ package io.github.sashirestela.slimvalidator.validators;
 
 import io.github.sashirestela.slimvalidator.ConstraintValidator;
 import io.github.sashirestela.slimvalidator.constraints.FieldMatch;
+import io.github.sashirestela.slimvalidator.util.Messages;
 import io.github.sashirestela.slimvalidator.util.Reflect;
 
+import java.util.Locale;
 import java.util.Objects;
 
 /**
@@ -13,18 +15,23 @@ public class FieldMatchValidator implements ConstraintValidator<FieldMatch, Obje
 
     private String first;
     private String second;
+    private String message;
 
     @Override
     public void initialize(FieldMatch annotation) {
         first = annotation.first();
         second = annotation.second();
+        message = getMessage(Locale.ROOT);
     }
 
     @Override
     public String getMessage() {
-        var message = new StringBuilder();
-        message.append(first).append(" and ").append(second).append(" must match.");
-        return message.toString();
+        return message;
+    }
+
+    @Override
+    public String getMessage(Locale locale) {
+        return Messages.format(locale, "fieldMatch", first, second);
     }
 
     @Override
@@ -0,0 +1,69 @@
+package io.github.sashirestela.slimvalidator.validators;
+
+import io.github.sashirestela.slimvalidator.ConstraintValidator;
+import io.github.sashirestela.slimvalidator.constraints.Finite;
+import io.github.sashirestela.slimvalidator.exception.ValidationException;
+import io.github.sashirestela.slimvalidator.util.Messages;
+
+import java.util.Locale;
+
+/**
+ * Checks that a floating point number, or every element of an array of them, is neither NaN nor
+ * infinite. Applies to fields of type: Double, Float, double[] or float[].
+ */
+public class FiniteValidator implements ConstraintValidator<Finite, Object> {
+
+    private String message;
+
+    @Override
+    public void initialize(Finite annotation) {
+        message = getMessage(Locale.ROOT);
+    }
+
+    @Override
+    public String getMessage() {
+        return message;
+    }
+
+    @Override
+    public String getMessage(Locale locale) {
+        return Messages.format(locale, "finite");
+    }
+
+    @Override
+    public boolean isValid(Object value) {
+        if (value == null) {
+            return true;
+        }
+        if (value instanceof Double || value instanceof Float) {
+            return Double.isFinite(((Number) value).doubleValue());
+        } else if (value instanceof double[]) {
+            return isValid((double[]) value);
+        } else if (value instanceof float[]) {
+            return isValid((float[]) value);
+        } else {
+            throw new ValidationException("Cannot get floating point numbers from {0}.",
+                    value.getClass().getSimpleName(), null);
+        }
+    }
+
+    private static boolean isValid(double[] array) {
+        for (var element : array) {
+            // Subtracting a number from itself gives NaN only for NaN and infinities
+            if (element - element != 0.0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isValid(float[] array) {
+        for (var element : array) {
+            if (element - element != 0.0f) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
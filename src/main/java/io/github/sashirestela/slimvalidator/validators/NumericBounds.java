@@ -0,0 +1,130 @@
+package io.github.sashirestela.slimvalidator.validators;
+
+import io.github.sashirestela.slimvalidator.exception.ValidationException;
+import io.github.sashirestela.slimvalidator.util.Messages;
+
+import java.math.BigDecimal;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+
+/**
+ * Closed numeric range shared by the range constraints. The bounds are converted once to every
+ * numeric representation, so values are compared exactly without converting them.
+ */
+class NumericBounds {
+
+    private final double min;
+    private final double max;
+    private final long longMin;
+    private final long longMax;
+    private final float floatMin;
+    private final float floatMax;
+    private final BigDecimal decimalMin;
+    private final BigDecimal decimalMax;
+
+    NumericBounds(String constraintName, double min, double max) {
+        if (min == -Double.MAX_VALUE && max == Double.MAX_VALUE) {
+            throw new ValidationException("In " + constraintName + " constraint, min or max must be set.");
+        }
+        if (min >= max) {
+            throw new ValidationException("In " + constraintName + " constraint, min must be less than max.");
+        }
+        this.min = min;
+        this.max = max;
+        // The long bounds are the closest integers within the range. Casting to long saturates, which
+        // is right for bounds beyond the long range, unless no long at all is within the range. In
+        // that case the bounds are crossed, so every long is out of range.
+        var ceilMin = Math.ceil(min);
+        var floorMax = Math.floor(max);
+        if (ceilMin >= 0x1p63 || floorMax < -0x1p63 || ceilMin > floorMax) {
+            this.longMin = Long.MAX_VALUE;
+            this.longMax = Long.MIN_VALUE;
+        } else {
+            this.longMin = (long) ceilMin;
+            this.longMax = (long) floorMax;
+        }
+        // Floats are compared with the bounds rounded to float, so a float written as the bound, like
+        // 0.1f for 0.1, is within the range although its exact value is slightly different.
+        this.floatMin = toFloat(min);
+        this.floatMax = toFloat(max);
+        // The decimal bounds are the ones written in the annotation, not the exact binary values of
+        // the doubles, so an amount like 99.99 is within a range with max = 99.99.
+        this.decimalMin = hasMin() ? BigDecimal.valueOf(min) : null;
+        this.decimalMax = hasMax() ? BigDecimal.valueOf(max) : null;
+    }
+
+    private static float toFloat(double bound) {
+        var floatBound = (float) bound;
+        if (Float.isInfinite(floatBound)) {
+            return floatBound > 0 ? Float.MAX_VALUE : -Float.MAX_VALUE;
+        }
+        return floatBound;
+    }
+
+    double getMin() {
+        return min;
+    }
+
+    double getMax() {
+        return max;
+    }
+
+    long getLongMin() {
+        return longMin;
+    }
+
+    long getLongMax() {
+        return longMax;
+    }
+
+    float getFloatMin() {
+        return floatMin;
+    }
+
+    float getFloatMax() {
+        return floatMax;
+    }
+
+    boolean contains(long number) {
+        return (number >= longMin && number <= longMax);
+    }
+
+    boolean contains(double number) {
+        return (number >= min && number <= max);
+    }
+
+    boolean contains(float number) {
+        return (number >= floatMin && number <= floatMax);
+    }
+
+    boolean contains(BigDecimal number) {
+        return ((decimalMin == null || number.compareTo(decimalMin) >= 0)
+                && (decimalMax == null || number.compareTo(decimalMax) <= 0));
+    }
+
+    /**
+     * Prepare the message of the range using the templates keyPrefix.min, keyPrefix.max and
+     * keyPrefix.minMax.
+     */
+    String getMessage(Locale locale, String keyPrefix) {
+        var decFormat = new DecimalFormat("#.##", DecimalFormatSymbols.getInstance(locale));
+        decFormat.setDecimalSeparatorAlwaysShown(false);
+        if (hasMin() && hasMax()) {
+            return Messages.format(locale, keyPrefix + ".minMax", decFormat.format(min), decFormat.format(max));
+        } else if (hasMin()) {
+            return Messages.format(locale, keyPrefix + ".min", decFormat.format(min));
+        } else {
+            return Messages.format(locale, keyPrefix + ".max", decFormat.format(max));
+        }
+    }
+
+    private boolean hasMin() {
+        return min > -Double.MAX_VALUE;
+    }
+
+    private boolean hasMax() {
+        return max < Double.MAX_VALUE;
+    }
+
+}
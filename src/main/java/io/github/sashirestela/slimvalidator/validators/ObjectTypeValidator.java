@@ -3,14 +3,17 @@ package io.github.sashirestela.slimvalidator.validators;
 import io.github.sashirestela.slimvalidator.ConstraintValidator;
 import io.github.sashirestela.slimvalidator.constraints.ObjectType;
 import io.github.sashirestela.slimvalidator.constraints.ObjectType.Schema;
+import io.github.sashirestela.slimvalidator.util.Messages;
 
 import java.util.Collection;
+import java.util.Locale;
 import java.util.Map;
 import java.util.function.Predicate;
 
 /**
  * Checks if an object's type matches a specific schema pattern. Supports direct objects,
- * collections, nested collections, maps, and maps with collection values.
+ * collections, nested collections, maps, and maps with collection values. The elements of
+ * collections and maps are checked on a sample, as set by maxChecks and sampling.
  */
 public class ObjectTypeValidator implements ConstraintValidator<ObjectType, Object> {
 
@@ -19,9 +22,12 @@ public class ObjectTypeValidator implements ConstraintValidator<ObjectType, Obje
     private Class<?> keyClass;
     private int maxSize;
     private int maxInnerSize;
-    private int maxChecks;
     private boolean allowNull;
     private boolean allowInnerNull;
+    private Sampler sampler;
+    private InstanceOfAny instanceOfBaseClass;
+    private Predicate<Object> elementCheck;
+    private String message;
 
     @Override
     public void initialize(ObjectType annotation) {
@@ -30,13 +36,28 @@ public class ObjectTypeValidator implements ConstraintValidator<ObjectType, Obje
         keyClass = annotation.keyClass();
         maxSize = annotation.maxSize();
         maxInnerSize = annotation.maxInnerSize();
-        maxChecks = annotation.maxChecks();
         allowNull = annotation.allowNull();
         allowInnerNull = annotation.allowInnerNull();
+        sampler = new Sampler(annotation.sampling(), annotation.maxChecks(), annotation.seed());
+        instanceOfBaseClass = new InstanceOfAny(baseClass);
+        elementCheck = getElementCheck();
+        message = getMessage(Locale.ROOT);
     }
 
     @Override
     public String getMessage() {
+        return message;
+    }
+
+    @Override
+    public String getMessage(Locale locale) {
+        return Messages.format(locale, "objectType", getDescription(locale));
+    }
+
+    /**
+     * Describes the expected type and conditions, to be used alone or among other alternatives.
+     */
+    String getDescription(Locale locale) {
         var plainBaseClass = new StringBuilder();
         for (int i = 0; i < baseClass.length; i++) {
             plainBaseClass.append(baseClass[i].getSimpleName());
@@ -44,30 +65,30 @@ public class ObjectTypeValidator implements ConstraintValidator<ObjectType, Obje
                 plainBaseClass.append("|");
             }
         }
-        var message = new StringBuilder(ObjectTypesValidator.MSG_PREFIX);
+        var description = new StringBuilder();
         switch (schema) {
             case DIRECT:
-                message.append(plainBaseClass);
+                description.append(plainBaseClass);
                 break;
             case COLL:
-                message.append("Collection<")
+                description.append("Collection<")
                         .append(plainBaseClass)
                         .append(">");
                 break;
             case COLL_COLL:
-                message.append("Collection<Collection<")
+                description.append("Collection<Collection<")
                         .append(plainBaseClass)
                         .append(">>");
                 break;
             case MAP:
-                message.append("Map<")
+                description.append("Map<")
                         .append(keyClass.getSimpleName())
                         .append(", ")
                         .append(plainBaseClass)
                         .append(">");
                 break;
             case MAP_COLL:
-                message.append("Map<")
+                description.append("Map<")
                         .append(keyClass.getSimpleName())
                         .append(", Collection<")
                         .append(plainBaseClass)
@@ -75,19 +96,18 @@ public class ObjectTypeValidator implements ConstraintValidator<ObjectType, Obje
                 break;
         }
         if (maxSize != Integer.MAX_VALUE) {
-            message.append(" and size at most ").append(maxSize);
+            description.append(Messages.format(locale, "objectType.maxSize", String.valueOf(maxSize)));
         }
         if (maxInnerSize != Integer.MAX_VALUE) {
-            message.append(" and inner size at most ").append(maxInnerSize);
+            description.append(Messages.format(locale, "objectType.maxInnerSize", String.valueOf(maxInnerSize)));
         }
         if (!allowNull) {
-            message.append(" and not contain nulls");
+            description.append(Messages.format(locale, "objectType.notNull"));
         }
         if (!allowInnerNull) {
-            message.append(" and not contain inner nulls");
+            description.append(Messages.format(locale, "objectType.notInnerNull"));
         }
-        message.append(ObjectTypesValidator.MSG_POSTFIX);
-        return message.toString();
+        return description.toString();
     }
 
     @Override
@@ -95,62 +115,71 @@ public class ObjectTypeValidator implements ConstraintValidator<ObjectType, Obje
         if (value == null) {
             return true;
         }
+        if (schema == Schema.DIRECT) {
+            return isInstanceOfAny(value);
+        }
+        return isValidContainer(value) && sampler.allMatch(getElements(value), elementCheck);
+    }
+
+    /**
+     * Checks the type and size of a collection or a map, before looking at its elements.
+     */
+    boolean isValidContainer(Object value) {
         switch (schema) {
-            case DIRECT:
-                return isValidDirect(value);
             case COLL:
-                return isValidCollection(value);
             case COLL_COLL:
-                return isValidCollectionOfCollections(value);
+                return value instanceof Collection && ((Collection<?>) value).size() <= maxSize;
             case MAP:
-                return isValidMap(value);
             case MAP_COLL:
-                return isValidMapOfCollections(value);
+                return value instanceof Map && ((Map<?, ?>) value).size() <= maxSize;
             default:
                 return false;
         }
     }
 
-    private boolean isValidDirect(Object value) {
-        return isInstanceOfAny(value, baseClass);
+    /**
+     * Gets the elements to be sampled: the items of a collection or the entries of a map.
+     */
+    Collection<?> getElements(Object value) {
+        return value instanceof Map ? ((Map<?, ?>) value).entrySet() : (Collection<?>) value;
     }
 
-    private boolean isValidCollection(Object value) {
-        if (!(value instanceof Collection)) {
-            return false;
-        }
-        Collection<?> collection = (Collection<?>) value;
-        if (collection.size() > maxSize) {
-            return false;
-        }
-        int checked = 0;
-        for (Object item : collection) {
-            if (checked >= maxChecks) {
-                break;
-            }
-            if (item == null) {
-                if (!allowNull) {
-                    return false;
-                }
-            } else {
-                if (!isInstanceOfAny(item, baseClass)) {
-                    return false;
-                }
-            }
-            checked++;
-        }
-        return true;
+    /**
+     * Checks one element of a collection or a map: an item or an entry respectively.
+     */
+    boolean isValidElement(Object element) {
+        return elementCheck.test(element);
     }
 
-    private boolean isValidCollectionOfCollections(Object value) {
-        if (!(value instanceof Collection)) {
-            return false;
+    Schema getSchema() {
+        return schema;
+    }
+
+    Sampler getSampler() {
+        return sampler;
+    }
+
+    private Predicate<Object> getElementCheck() {
+        switch (schema) {
+            case COLL:
+                return this::isValidItem;
+            case COLL_COLL:
+                return this::isValidInnerCollection;
+            case MAP:
+                return element -> isValidKey(element) && isValidItem(((Map.Entry<?, ?>) element).getValue());
+            case MAP_COLL:
+                return element -> isValidKey(element)
+                        && isValidInnerCollection(((Map.Entry<?, ?>) element).getValue());
+            default:
+                return this::isInstanceOfAny;
         }
-        Collection<?> outerCollection = (Collection<?>) value;
-        if (outerCollection.size() > maxSize) {
-            return false;
+    }
+
+    private boolean isValidItem(Object item) {
+        if (item == null) {
+            return allowNull;
         }
-        return validateCollectionItems(outerCollection, this::isValidInnerCollection);
+        return isInstanceOfAny(item);
     }
 
     private boolean isValidInnerCollection(Object item) {
@@ -164,102 +193,47 @@ public class ObjectTypeValidator implements ConstraintValidator<ObjectType, Obje
         if (innerCollection.size() > maxInnerSize) {
             return false;
         }
-        return validateCollectionItems(innerCollection, this::isValidInnerItem);
+        return sampler.allMatch(innerCollection, this::isValidInnerItem);
     }
 
     private boolean isValidInnerItem(Object item) {
         if (item == null) {
             return allowInnerNull;
         }
-        return isInstanceOfAny(item, baseClass);
+        return isInstanceOfAny(item);
     }
 
-    private boolean isValidMap(Object value) {
-        if (!(value instanceof Map)) {
-            return false;
-        }
-        Map<?, ?> map = (Map<?, ?>) value;
-
-        if (map.size() > maxSize) {
-            return false;
-        }
-        return validateMapEntries(map, this::isValidMapValue);
+    private boolean isValidKey(Object element) {
+        var key = ((Map.Entry<?, ?>) element).getKey();
+        return keyClass == void.class || key == null || keyClass.isInstance(key);
     }
 
-    private boolean isValidMapValue(Object value) {
-        if (value == null) {
-            return allowNull;
-        }
-        return isInstanceOfAny(value, baseClass);
+    private boolean isInstanceOfAny(Object value) {
+        return instanceOfBaseClass.get(value.getClass());
     }
 
-    private boolean isValidMapOfCollections(Object value) {
-        if (!(value instanceof Map)) {
-            return false;
-        }
-        Map<?, ?> map = (Map<?, ?>) value;
-        if (map.size() > maxSize) {
-            return false;
-        }
-        return validateMapEntries(map, this::isValidMapCollectionValue);
-    }
+    /**
+     * Remembers per class whether it is assignable to any of the base classes, so checking an
+     * element costs one lookup no matter how many base classes there are.
+     */
+    private static class InstanceOfAny extends ClassValue<Boolean> {
 
-    private boolean isValidMapCollectionValue(Object value) {
-        if (value == null) {
-            return allowNull;
-        }
-        if (!(value instanceof Collection)) {
-            return false;
-        }
-        Collection<?> collection = (Collection<?>) value;
-        if (collection.size() > maxInnerSize) {
-            return false;
-        }
-        return validateCollectionItems(collection, this::isValidInnerItem);
-    }
+        private final Class<?>[] classes;
 
-    private boolean validateCollectionItems(Collection<?> collection, java.util.function.Predicate<Object> validator) {
-        int checked = 0;
-        for (Object item : collection) {
-            if (checked >= maxChecks) {
-                break;
-            }
-            if (!validator.test(item)) {
-                return false;
-            }
-            checked++;
+        InstanceOfAny(Class<?>[] classes) {
+            this.classes = classes;
         }
-        return true;
-    }
 
-    private boolean validateMapEntries(Map<?, ?> map, Predicate<Object> valueValidator) {
-        int checked = 0;
-        for (Map.Entry<?, ?> entry : map.entrySet()) {
-            if (checked >= maxChecks) {
-                break;
-            }
-            Object key = entry.getKey();
-            Object val = entry.getValue();
-            // Check key type (if keyClass is not void.class)
-            if (keyClass != void.class && key != null && !keyClass.isInstance(key)) {
-                return false;
-            }
-            // Check value using provided validator
-            if (!valueValidator.test(val)) {
-                return false;
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            for (Class<?> clazz : classes) {
+                if (clazz.isAssignableFrom(type)) {
+                    return Boolean.TRUE;
+                }
             }
-            checked++;
+            return Boolean.FALSE;
         }
-        return true;
-    }
 
-    private boolean isInstanceOfAny(Object value, Class<?>[] classes) {
-        for (Class<?> clazz : classes) {
-            if (clazz.isInstance(value)) {
-                return true;
-            }
-        }
-        return false;
     }
 
 }
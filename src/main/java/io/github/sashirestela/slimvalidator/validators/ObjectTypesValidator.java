@@ -3,40 +3,94 @@ package io.github.sashirestela.slimvalidator.validators;
 import io.github.sashirestela.slimvalidator.ConstraintValidator;
 import io.github.sashirestela.slimvalidator.constraints.ObjectType;
 import io.github.sashirestela.slimvalidator.constraints.ObjectType.ObjectTypes;
+import io.github.sashirestela.slimvalidator.constraints.ObjectType.Schema;
+import io.github.sashirestela.slimvalidator.util.Messages;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
 
 /**
  * Checks that the type of an object matches one of multiple ObjectType configurations. This
- * validator allows for multiple schema patterns to be applied to the same field.
+ * validator allows for multiple schema patterns to be applied to the same field. The alternatives
+ * are grouped by the shape of value they accept, so the shape is classified once, and the
+ * alternatives of a shape are evaluated together in one pass over the elements.
  */
 public class ObjectTypesValidator implements ConstraintValidator<ObjectTypes, Object> {
 
+    /**
+     * @deprecated The message is read from the bundle key objectType. It will be removed in a future
+     *             version.
+     */
+    @Deprecated
     public static final String MSG_PREFIX = "type must be one of ";
+
+    /**
+     * @deprecated The message is read from the bundle key objectType. It will be removed in a future
+     *             version.
+     */
+    @Deprecated
     public static final String MSG_POSTFIX = ".";
 
-    private ObjectType[] objectTypeList;
+    private static final SharedPass[] NO_PASSES = new SharedPass[0];
+
+    private ObjectTypeValidator[] itemValidators;
+    private ObjectTypeValidator[] directValidators;
+    private SharedPass[] collectionPasses;
+    private SharedPass[] mapPasses;
+    private String message;
 
     @Override
     public void initialize(ObjectTypes annotation) {
-        objectTypeList = annotation.value().clone();
+        var objectTypeList = annotation.value();
+        itemValidators = new ObjectTypeValidator[objectTypeList.length];
+        var directList = new ArrayList<ObjectTypeValidator>();
+        var collectionsBySampler = new LinkedHashMap<Sampler, List<ObjectTypeValidator>>();
+        var mapsBySampler = new LinkedHashMap<Sampler, List<ObjectTypeValidator>>();
+        for (int i = 0; i < objectTypeList.length; i++) {
+            itemValidators[i] = new ObjectTypeValidator();
+            itemValidators[i].initialize(objectTypeList[i]);
+            var schema = itemValidators[i].getSchema();
+            if (schema == Schema.DIRECT) {
+                directList.add(itemValidators[i]);
+            } else {
+                var bySampler = schema == Schema.MAP || schema == Schema.MAP_COLL ? mapsBySampler
+                        : collectionsBySampler;
+                bySampler.computeIfAbsent(itemValidators[i].getSampler(), key -> new ArrayList<>())
+                        .add(itemValidators[i]);
+            }
+        }
+        directValidators = directList.toArray(new ObjectTypeValidator[0]);
+        collectionPasses = toPasses(collectionsBySampler);
+        mapPasses = toPasses(mapsBySampler);
+        message = getMessage(Locale.ROOT);
+    }
+
+    private static SharedPass[] toPasses(Map<Sampler, List<ObjectTypeValidator>> validatorsBySampler) {
+        var passes = new SharedPass[validatorsBySampler.size()];
+        var i = 0;
+        for (var entry : validatorsBySampler.entrySet()) {
+            passes[i++] = new SharedPass(entry.getKey(), entry.getValue().toArray(new ObjectTypeValidator[0]));
+        }
+        return passes;
     }
 
     @Override
     public String getMessage() {
-        var message = new StringBuilder(MSG_PREFIX);
-        var itemValidator = new ObjectTypeValidator();
-        var itemMessage = "";
-        for (int i = 0; i < objectTypeList.length; i++) {
-            itemValidator.initialize(objectTypeList[i]);
-            itemMessage = itemValidator.getMessage().replace(MSG_PREFIX, "");
-            itemMessage = itemMessage.replace(MSG_POSTFIX, "");
-            message.append(itemMessage);
-            if (i < objectTypeList.length - 1) {
-                message.append(" or ");
-            } else {
-                message.append(MSG_POSTFIX);
-            }
+        return message;
+    }
+
+    @Override
+    public String getMessage(Locale locale) {
+        var descriptions = new StringJoiner(Messages.format(locale, "objectType.or"));
+        for (var itemValidator : itemValidators) {
+            descriptions.add(itemValidator.getDescription(locale));
         }
-        return message.toString();
+        return Messages.format(locale, "objectType", descriptions.toString());
     }
 
     @Override
@@ -44,14 +98,64 @@ public class ObjectTypesValidator implements ConstraintValidator<ObjectTypes, Ob
         if (value == null) {
             return true;
         }
-        var itemValidator = new ObjectTypeValidator();
-        for (var objectType : objectTypeList) {
-            itemValidator.initialize(objectType);
-            if (itemValidator.isValid(value)) {
+        for (var directValidator : directValidators) {
+            if (directValidator.isValid(value)) {
+                return true;
+            }
+        }
+        SharedPass[] passes;
+        if (value instanceof Map) {
+            passes = mapPasses;
+        } else if (value instanceof Collection) {
+            passes = collectionPasses;
+        } else {
+            passes = NO_PASSES;
+        }
+        for (var pass : passes) {
+            if (pass.isValid(value)) {
                 return true;
             }
         }
         return false;
     }
 
+    /**
+     * Alternatives of the same shape that sample the elements in the same way, so they can check
+     * each sampled element together. An alternative drops out at its first invalid element and the
+     * pass stops when none is left.
+     */
+    private static class SharedPass {
+
+        private final Sampler sampler;
+        private final ObjectTypeValidator[] validators;
+
+        SharedPass(Sampler sampler, ObjectTypeValidator[] validators) {
+            this.sampler = sampler;
+            this.validators = validators;
+        }
+
+        boolean isValid(Object value) {
+            var alive = new boolean[validators.length];
+            var anyAlive = false;
+            for (int i = 0; i < validators.length; i++) {
+                alive[i] = validators[i].isValidContainer(value);
+                anyAlive |= alive[i];
+            }
+            if (!anyAlive) {
+                return false;
+            }
+            return sampler.allMatch(validators[0].getElements(value), element -> {
+                var anyMatch = false;
+                for (int i = 0; i < validators.length; i++) {
+                    if (alive[i]) {
+                        alive[i] = validators[i].isValidElement(element);
+                        anyMatch |= alive[i];
+                    }
+                }
+                return anyMatch;
+            });
+        }
+
+    }
+
 }
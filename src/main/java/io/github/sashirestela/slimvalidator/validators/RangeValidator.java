@@ -4,46 +4,40 @@ import io.github.sashirestela.slimvalidator.ConstraintValidator;
 import io.github.sashirestela.slimvalidator.constraints.Range;
 import io.github.sashirestela.slimvalidator.exception.ValidationException;
 
-import java.text.DecimalFormat;
-import java.text.NumberFormat;
-import java.text.ParseException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
- * Checks that a value is within a closed range. Applies to fields of any numeric type.
+ * Checks that a value is within a closed range. Applies to fields of any numeric type, comparing
+ * integral and big numbers exactly, without converting them to double. Texts are parsed as numbers
+ * only if isNumericText is set.
  */
 public class RangeValidator implements ConstraintValidator<Range, Object> {
 
-    private double min;
-    private double max;
+    private NumericBounds bounds;
     private boolean isVariableType;
+    private boolean isNumericText;
+    private String message;
 
     @Override
     public void initialize(Range annotation) {
-        min = annotation.min();
-        max = annotation.max();
+        bounds = new NumericBounds("Range", annotation.min(), annotation.max());
         isVariableType = annotation.isVariableType();
-        if (min == -Double.MAX_VALUE && max == Double.MAX_VALUE) {
-            throw new ValidationException("In Range constraint, min or max must be set.");
-        }
-        if (min >= max) {
-            throw new ValidationException("In Range constraint, min must be less than max.");
-        }
+        isNumericText = annotation.isNumericText();
+        message = getMessage(Locale.ROOT);
     }
 
     @Override
     public String getMessage() {
-        var decFormat = new DecimalFormat("#.##");
-        decFormat.setDecimalSeparatorAlwaysShown(false);
-        var message = new StringBuilder();
-        message.append("must be");
-        if (min > -Double.MAX_VALUE) {
-            message.append(" at least ").append(decFormat.format(min));
-        }
-        if (max < Double.MAX_VALUE) {
-            message.append(" at most ").append(decFormat.format(max));
-        }
-        message.append(".");
-        return message.toString();
+        return message;
+    }
+
+    @Override
+    public String getMessage(Locale locale) {
+        return bounds.getMessage(locale, "range");
     }
 
     @Override
@@ -51,16 +45,41 @@ public class RangeValidator implements ConstraintValidator<Range, Object> {
         if (value == null) {
             return true;
         }
-        try {
-            double number = NumberFormat.getInstance().parse(value.toString()).doubleValue();
-            return (number >= min && number <= max);
-        } catch (ParseException e) {
-            if (isVariableType) {
-                return true;
-            } else {
-                throw new ValidationException("Cannot get a number from {0}.", value.getClass().getSimpleName(), null);
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte
+                || value instanceof AtomicInteger || value instanceof AtomicLong) {
+            return bounds.contains(((Number) value).longValue());
+        }
+        if (value instanceof Double) {
+            return bounds.contains(((Double) value).doubleValue());
+        }
+        if (value instanceof Float) {
+            return bounds.contains(((Float) value).floatValue());
+        }
+        if (value instanceof BigDecimal) {
+            return bounds.contains((BigDecimal) value);
+        }
+        if (value instanceof BigInteger) {
+            return bounds.contains(new BigDecimal((BigInteger) value));
+        }
+        if (value instanceof Number) {
+            return bounds.contains(((Number) value).doubleValue());
+        }
+        if (isNumericText && value instanceof CharSequence) {
+            try {
+                return bounds.contains(new BigDecimal(value.toString().trim()));
+            } catch (NumberFormatException e) {
+                return isValidNonNumeric(value);
             }
         }
+        return isValidNonNumeric(value);
+    }
+
+    private boolean isValidNonNumeric(Object value) {
+        if (isVariableType) {
+            return true;
+        } else {
+            throw new ValidationException("Cannot get a number from {0}.", value.getClass().getSimpleName(), null);
+        }
     }
 
 }
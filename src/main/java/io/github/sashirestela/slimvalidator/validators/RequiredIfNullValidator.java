@@ -2,9 +2,11 @@ package io.github.sashirestela.slimvalidator.validators;
 
 import io.github.sashirestela.slimvalidator.ConstraintValidator;
 import io.github.sashirestela.slimvalidator.constraints.RequiredIfNull;
+import io.github.sashirestela.slimvalidator.util.Messages;
 import io.github.sashirestela.slimvalidator.util.Reflect;
 
 import java.util.Arrays;
+import java.util.Locale;
 import java.util.Objects;
 
 /**
@@ -15,21 +17,23 @@ public class RequiredIfNullValidator implements ConstraintValidator<RequiredIfNu
 
     private String[] fields;
     private String dependsOn;
+    private String message;
 
     @Override
     public void initialize(RequiredIfNull annotation) {
         fields = annotation.fields().clone();
         dependsOn = annotation.dependsOn();
+        message = getMessage(Locale.ROOT);
     }
 
     @Override
     public String getMessage() {
-        var message = new StringBuilder();
-        message.append(Arrays.toString(fields))
-                .append(" must have a value when ")
-                .append(dependsOn)
-                .append(" is null.");
-        return message.toString();
+        return message;
+    }
+
+    @Override
+    public String getMessage(Locale locale) {
+        return Messages.format(locale, "requiredIfNull", Arrays.toString(fields), dependsOn);
     }
 
     @Override
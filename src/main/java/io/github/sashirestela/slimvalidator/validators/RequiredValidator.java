@@ -2,8 +2,11 @@ package io.github.sashirestela.slimvalidator.validators;
 
 import io.github.sashirestela.slimvalidator.ConstraintValidator;
 import io.github.sashirestela.slimvalidator.constraints.Required;
+import io.github.sashirestela.slimvalidator.util.Messages;
 
+import java.lang.reflect.Array;
 import java.util.Collection;
+import java.util.Locale;
 import java.util.Map;
 
 /**
@@ -11,9 +14,11 @@ import java.util.Map;
  */
 public class RequiredValidator implements ConstraintValidator<Required, Object> {
 
+    private String message;
+
     @Override
     public void initialize(Required annotation) {
-        // No fields in this annotation
+        message = getMessage(Locale.ROOT);
     }
 
     @Override
@@ -23,7 +28,12 @@ public class RequiredValidator implements ConstraintValidator<Required, Object>
 
     @Override
     public String getMessage() {
-        return "must have a value.";
+        return message;
+    }
+
+    @Override
+    public String getMessage(Locale locale) {
+        return Messages.format(locale, "required");
     }
 
     private boolean isEmpty(Object value) {
@@ -33,7 +43,7 @@ public class RequiredValidator implements ConstraintValidator<Required, Object>
         } else if (value instanceof Map) {
             size = ((Map<?, ?>) value).size();
         } else if (value.getClass().isArray()) {
-            size = ((Object[]) value).length;
+            size = Array.getLength(value);
         }
         return (size == 0);
     }
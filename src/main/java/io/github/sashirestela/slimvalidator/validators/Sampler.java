@@ -0,0 +1,136 @@
+package io.github.sashirestela.slimvalidator.validators;
+
+import io.github.sashirestela.slimvalidator.constraints.ObjectType.Sampling;
+import lombok.EqualsAndHashCode;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.RandomAccess;
+import java.util.TreeSet;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+
+/**
+ * Picks the elements of a collection to be checked, so big collections are validated at a bounded
+ * cost. Lists with random access are read by index, other collections are read in a single pass.
+ */
+@EqualsAndHashCode
+class Sampler {
+
+    private final Sampling sampling;
+    private final int maxChecks;
+    private final long seed;
+
+    Sampler(Sampling sampling, int maxChecks, long seed) {
+        this.sampling = sampling;
+        this.maxChecks = maxChecks;
+        this.seed = seed;
+    }
+
+    /**
+     * Checks the sampled elements of a collection, stopping at the first one that does not match.
+     *
+     * @param collection The collection to be sampled.
+     * @param check      The condition that every sampled element must match.
+     * @return True if all the sampled elements match the condition, false otherwise.
+     */
+    boolean allMatch(Collection<?> collection, Predicate<Object> check) {
+        var size = collection.size();
+        var count = Math.max(0, Math.min(size, maxChecks));
+        if (sampling == Sampling.FULL) {
+            count = size;
+        }
+        if (count == size || sampling == Sampling.FIRST) {
+            return allMatchFirst(collection, count, check);
+        }
+        if (sampling == Sampling.STRIDED) {
+            return allMatchStrided(collection, count, check);
+        }
+        return allMatchRandom(collection, count, check);
+    }
+
+    private boolean allMatchFirst(Collection<?> collection, int count, Predicate<Object> check) {
+        var checked = 0;
+        for (var element : collection) {
+            if (checked >= count) {
+                break;
+            }
+            if (!check.test(element)) {
+                return false;
+            }
+            checked++;
+        }
+        return true;
+    }
+
+    private boolean allMatchStrided(Collection<?> collection, int count, Predicate<Object> check) {
+        var size = collection.size();
+        if (collection instanceof RandomAccess && collection instanceof List) {
+            var list = (List<?>) collection;
+            for (var i = 0; i < count; i++) {
+                if (!check.test(list.get(position(i, count, size)))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        var index = 0;
+        var i = 0;
+        for (var element : collection) {
+            if (i >= count) {
+                break;
+            }
+            if (index == position(i, count, size)) {
+                if (!check.test(element)) {
+                    return false;
+                }
+                i++;
+            }
+            index++;
+        }
+        return true;
+    }
+
+    private static int position(int i, int count, int size) {
+        return (int) ((long) i * size / count);
+    }
+
+    private boolean allMatchRandom(Collection<?> collection, int count, Predicate<Object> check) {
+        var random = seed == 0 ? ThreadLocalRandom.current() : new Random(seed);
+        var size = collection.size();
+        if (collection instanceof RandomAccess && collection instanceof List) {
+            // Floyd's algorithm picks count distinct indexes with count random numbers.
+            var list = (List<?>) collection;
+            var indexes = new TreeSet<Integer>();
+            for (var upper = size - count; upper < size; upper++) {
+                var index = random.nextInt(upper + 1);
+                indexes.add(indexes.contains(index) ? upper : index);
+            }
+            for (var index : indexes) {
+                if (!check.test(list.get(index))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        // Selection sampling: each element is picked with the probability of the pending picks
+        // among the pending elements, which gives a uniform sample in one pass.
+        var pending = size;
+        var picks = count;
+        for (var element : collection) {
+            if (picks == 0) {
+                break;
+            }
+            if (random.nextInt(pending) < picks) {
+                if (!check.test(element)) {
+                    return false;
+                }
+                picks--;
+            }
+            pending--;
+        }
+        return true;
+    }
+
+}
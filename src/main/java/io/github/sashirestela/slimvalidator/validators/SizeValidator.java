@@ -3,19 +3,23 @@ package io.github.sashirestela.slimvalidator.validators;
 import io.github.sashirestela.slimvalidator.ConstraintValidator;
 import io.github.sashirestela.slimvalidator.constraints.Size;
 import io.github.sashirestela.slimvalidator.exception.ValidationException;
+import io.github.sashirestela.slimvalidator.util.Messages;
 
+import java.lang.reflect.Array;
 import java.util.Collection;
+import java.util.Locale;
 import java.util.Map;
 
 /**
  * Checks that a text's length or a group's size is within a closed range. Applies to fields of
- * type: String, Collection, Map or Object array.
+ * type: String, Collection, Map or array.
  */
 public class SizeValidator implements ConstraintValidator<Size, Object> {
 
     private int min;
     private int max;
     private boolean isVariableType;
+    private String message;
 
     @Override
     public void initialize(Size annotation) {
@@ -25,20 +29,27 @@ public class SizeValidator implements ConstraintValidator<Size, Object> {
         if (min > max) {
             throw new ValidationException("In Size constraint, min must be less or equal than max.");
         }
+        message = getMessage(Locale.ROOT);
     }
 
     @Override
     public String getMessage() {
-        var message = new StringBuilder();
-        message.append("size must be");
-        if (min > 0) {
-            message.append(" at least ").append(min);
-        }
-        if (max < Integer.MAX_VALUE) {
-            message.append(" at most ").append(max);
+        return message;
+    }
+
+    @Override
+    public String getMessage(Locale locale) {
+        var hasMin = min > 0;
+        var hasMax = max < Integer.MAX_VALUE;
+        if (hasMin && hasMax) {
+            return Messages.format(locale, "size.minMax", String.valueOf(min), String.valueOf(max));
+        } else if (hasMin) {
+            return Messages.format(locale, "size.min", String.valueOf(min));
+        } else if (hasMax) {
+            return Messages.format(locale, "size.max", String.valueOf(max));
+        } else {
+            return Messages.format(locale, "size");
         }
-        message.append(".");
-        return message.toString();
     }
 
     @Override
@@ -70,7 +81,7 @@ public class SizeValidator implements ConstraintValidator<Size, Object> {
                 } else if (value instanceof Map) {
                     return ((Map<?, ?>) value).size();
                 } else if (value.getClass().isArray()) {
-                    return ((Object[]) value).length;
+                    return Array.getLength(value);
                 } else {
                     throw new IllegalArgumentException();
                 }
@@ -0,0 +1,63 @@
+package io.github.sashirestela.slimvalidator;
+
+import io.github.sashirestela.slimvalidator.constraints.Required;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
+import lombok.Value;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class JfrValidationListenerTest {
+
+    @Test
+    void shouldEmitEventsWhenRecordingIsRunning() throws Exception {
+        var validator = Validator.builder().listener(new JfrValidationListener(Duration.ZERO)).build();
+        var file = Files.createTempFile("slimvalidator", ".jfr");
+        try (var recording = new Recording()) {
+            recording.enable("slimvalidator.Validation");
+            recording.enable("slimvalidator.MetadataBuild");
+            recording.enable("slimvalidator.SlowConstraint");
+            recording.start();
+            validator.validate(new Book(null));
+            recording.stop();
+            recording.dump(file);
+        }
+        var events = RecordingFile.readAllEvents(file);
+        Files.delete(file);
+        var actualEvents = events.stream()
+                .map(event -> event.getEventType().getName())
+                .sorted()
+                .collect(Collectors.joining(","));
+        var expectedEvents = "slimvalidator.MetadataBuild,slimvalidator.SlowConstraint,slimvalidator.Validation";
+        assertEquals(expectedEvents, actualEvents);
+        var validationEvent = events.stream()
+                .filter(event -> event.getEventType().getName().equals("slimvalidator.Validation"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(Book.class.getName(), validationEvent.getString("className"));
+        assertEquals(1, validationEvent.getInt("objectCount"));
+        assertEquals(1, validationEvent.getInt("violationCount"));
+    }
+
+    @Test
+    void shouldNotMeasureAnythingWhenNoRecordingIsRunning() {
+        var listener = new JfrValidationListener();
+        assertFalse(listener.isValidationEnabled());
+        assertFalse(listener.isConstraintCheckEnabled());
+    }
+
+    @Value
+    static class Book {
+
+        @Required
+        String title;
+
+    }
+
+}
@@ -0,0 +1,97 @@
+package io.github.sashirestela.slimvalidator;
+
+import io.github.sashirestela.slimvalidator.data.Person;
+import io.github.sashirestela.slimvalidator.exception.ValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ValidationProcessorTest {
+
+    @Test
+    void shouldPublishResultsInOrderWhenConcurrencyIsOne() throws Exception {
+        var people = createPeople(100);
+        var processor = new ValidationProcessor<Person>(new Validator());
+        List<ValidationResult<Person>> results = new ArrayList<>();
+        try (var source = new SubmissionPublisher<Person>()) {
+            source.subscribe(processor);
+            var consumption = processor.consume(results::add);
+            people.forEach(source::submit);
+            source.close();
+            consumption.get(10, TimeUnit.SECONDS);
+        }
+        assertEquals(100, results.size());
+        for (int i = 0; i < people.size(); i++) {
+            assertEquals(people.get(i), results.get(i).getObject());
+            assertEquals(i % 3 != 0, results.get(i).isValid());
+        }
+    }
+
+    @Test
+    void shouldPublishAllResultsWhenConcurrencyIsGreaterThanOne() throws Exception {
+        var people = createPeople(100);
+        var executor = Executors.newFixedThreadPool(4);
+        var processor = new ValidationProcessor<Person>(new Validator(), executor, 4, 8);
+        List<ValidationResult<Person>> results = Collections.synchronizedList(new ArrayList<>());
+        try (var source = new SubmissionPublisher<Person>(executor, 8)) {
+            source.subscribe(processor);
+            var consumption = processor.consume(results::add);
+            people.forEach(source::submit);
+            source.close();
+            consumption.get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(100, results.size());
+        assertEquals(34, results.stream().filter(result -> !result.isValid()).count());
+    }
+
+    @Test
+    void shouldPublishAllResultsWhenSubscriberArrivesAfterTheObjects() throws Exception {
+        var people = createPeople(10);
+        var processor = new ValidationProcessor<Person>(new Validator(), ForkJoinPool.commonPool(), 4, 8);
+        List<ValidationResult<Person>> results = Collections.synchronizedList(new ArrayList<>());
+        try (var source = new SubmissionPublisher<Person>()) {
+            source.subscribe(processor);
+            people.forEach(source::submit);
+            Thread.sleep(200);
+            var consumption = processor.consume(results::add);
+            source.close();
+            consumption.get(10, TimeUnit.SECONDS);
+        }
+        assertEquals(10, results.size());
+    }
+
+    @Test
+    void shouldThrownExceptionWhenMaxConcurrencyIsNotPositive() {
+        var validator = new Validator();
+        var executor = ForkJoinPool.commonPool();
+        var exception = assertThrows(ValidationException.class,
+                () -> new ValidationProcessor<Person>(validator, executor, 0, 8));
+        var actualMessage = exception.getMessage();
+        var expectedMessage = "In ValidationProcessor, maxConcurrency must be greater than zero.";
+        assertEquals(expectedMessage, actualMessage);
+    }
+
+    private List<Person> createPeople(int size) {
+        List<Person> people = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            people.add(Person.builder()
+                    .firstName("Name " + i)
+                    .lastName(i % 3 == 0 ? null : "Last " + i)
+                    .age(20)
+                    .build());
+        }
+        return people;
+    }
+
+}
@@ -1,16 +1,37 @@
 package io.github.sashirestela.slimvalidator;
 
+import io.github.sashirestela.slimvalidator.constraints.Range;
+import io.github.sashirestela.slimvalidator.constraints.Required;
 import io.github.sashirestela.slimvalidator.data.AbstractClass.ChildClass;
 import io.github.sashirestela.slimvalidator.data.Address;
 import io.github.sashirestela.slimvalidator.data.Address.Coordinate;
+import io.github.sashirestela.slimvalidator.data.Currency;
 import io.github.sashirestela.slimvalidator.data.Participant;
 import io.github.sashirestela.slimvalidator.data.Person;
+import io.github.sashirestela.slimvalidator.data.Scoreboard;
+import io.github.sashirestela.slimvalidator.data.Signal;
 import io.github.sashirestela.slimvalidator.data.User;
 import io.github.sashirestela.slimvalidator.data.User.Gender;
 import io.github.sashirestela.slimvalidator.exception.ConstraintViolationException;
+import io.github.sashirestela.slimvalidator.exception.ValidationException;
+import lombok.Value;
 import org.junit.jupiter.api.Test;
 
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class ValidatorTest {
 
@@ -79,6 +100,229 @@ class ValidatorTest {
         assertEquals(expectedViolationMessage, actualViolationsMessage);
     }
 
+    @Test
+    void shouldReturnOnlyFirstViolationWhenValidatorIsFailFast() {
+        var address1 = Address.builder()
+                .street("Indepence")
+                .coordinate(Coordinate.builder().longitude(-30.5).build())
+                .build();
+        var user = User.builder()
+                .id(101)
+                .name("Peter Thomas Jefferson")
+                .address(address1)
+                .hobbies(new String[] { "dancing", "football" })
+                .build();
+        var validator = Validator.builder().failFast(true).build();
+        var violations = validator.validate(user);
+        var exception = new ConstraintViolationException(violations);
+        var actualViolationsMessage = exception.getMessage();
+        var expectedViolationMessage = "name size must be at most 20.";
+        assertEquals(expectedViolationMessage, actualViolationsMessage);
+    }
+
+    @Test
+    void shouldValidateEveryObjectWhenThereAreDistinctButEqualObjects() {
+        var address1 = Address.builder()
+                .street("Indepence")
+                .city("Washington")
+                .coordinate(Coordinate.builder().longitude(-30.5).build())
+                .build();
+        var address2 = Address.builder()
+                .street("Indepence")
+                .city("Washington")
+                .coordinate(Coordinate.builder().longitude(-30.5).build())
+                .build();
+        var user = User.builder()
+                .id(101)
+                .name("Peter James")
+                .email("peter.james@gmail.com")
+                .gender(Gender.MALE)
+                .address(address1)
+                .address(address2)
+                .build();
+        var validator = new Validator();
+        var violations = validator.validate(user);
+        var exception = new ConstraintViolationException(violations);
+        var actualViolationsMessage = exception.getMessage();
+        var expectedViolationMessage = ""
+                + "addresses.0.coordinate.latitude must have a value.\n"
+                + "addresses.1.coordinate.latitude must have a value.\n"
+                + "relatives size must be at least 2.";
+        assertEquals(expectedViolationMessage, actualViolationsMessage);
+    }
+
+    @Test
+    void shouldReturnSameViolationsInOrderWhenElementsAreValidatedInParallel() {
+        var addresses = new ArrayList<Address>();
+        for (int i = 0; i < 1000; i++) {
+            addresses.add(Address.builder()
+                    .street("Street " + i)
+                    .city(i % 7 == 0 ? null : "City " + i)
+                    .build());
+        }
+        var user = User.builder()
+                .id(101)
+                .name("Peter James")
+                .email("peter.james@gmail.com")
+                .gender(Gender.MALE)
+                .addresses(addresses)
+                .relative("wife", Person.builder().firstName("Mary").lastName("Turner").age(0).build())
+                .relative("son", Person.builder().firstName("Tom").lastName("James").age(5).build())
+                .build();
+        var sequentialValidator = new Validator();
+        var parallelValidator = Validator.builder()
+                .parallelThreshold(2)
+                .forkJoinPool(new ForkJoinPool(4))
+                .build();
+        var expectedViolationMessage = new ConstraintViolationException(sequentialValidator.validate(user))
+                .getMessage();
+        var actualViolationMessage = new ConstraintViolationException(parallelValidator.validate(user)).getMessage();
+        assertEquals(expectedViolationMessage, actualViolationMessage);
+        assertEquals(145, parallelValidator.validate(user).size());
+    }
+
+    @Test
+    void shouldValidateSharedObjectOnceWhenElementsAreValidatedInParallel() {
+        var sharedItem = new Item(null, 5);
+        var lines = new ArrayList<Line>();
+        for (int i = 0; i < 8; i++) {
+            lines.add(new Line(sharedItem));
+        }
+        var basket = new Basket(lines);
+        var sequentialViolations = new Validator().validate(basket);
+        var parallelValidator = Validator.builder()
+                .parallelThreshold(2)
+                .forkJoinPool(new ForkJoinPool(4))
+                .build();
+        for (int i = 0; i < 20; i++) {
+            var parallelViolations = parallelValidator.validate(basket);
+            assertEquals(sequentialViolations.size(), parallelViolations.size());
+            assertEquals(sequentialViolations.get(0).getMessage(), parallelViolations.get(0).getMessage());
+        }
+        assertEquals(1, sequentialViolations.size());
+    }
+
+    @Test
+    void shouldStopEveryChunkWhenFailFastAndElementsAreValidatedInParallel() {
+        var people = new ArrayList<Person>();
+        for (int i = 0; i < 100; i++) {
+            people.add(Person.builder().firstName("Name " + i).age(20).build());
+        }
+        var crowd = new Crowd(people);
+        var failedChecks = new AtomicInteger();
+        var validator = Validator.builder()
+                .failFast(true)
+                .parallelThreshold(2)
+                .forkJoinPool(new ForkJoinPool(1))
+                .listener(new ValidationListener() {
+
+                    @Override
+                    public void onConstraintCheck(Annotation annotation, Object value, boolean valid, long nanos) {
+                        if (!valid) {
+                            failedChecks.incrementAndGet();
+                        }
+                    }
+
+                })
+                .build();
+        var violations = validator.validate(crowd);
+        assertEquals(1, violations.size());
+        assertEquals(1, failedChecks.get());
+    }
+
+    @Test
+    void shouldReturnViolationsByObjectWhenBatchIsValidated() {
+        var person1 = Person.builder().firstName("Mary").lastName("Turner").age(25).build();
+        var person2 = Person.builder().firstName("Tom").age(105).build();
+        var person3 = Person.builder().firstName("Tom").age(105).build();
+        var batch = List.of(person1, person2, person3);
+        var validator = new Validator();
+        var executor = Executors.newFixedThreadPool(2);
+        try {
+            for (var violationsByObject : List.of(validator.validateAll(batch),
+                    validator.validateAll(batch, executor))) {
+                assertEquals(3, violationsByObject.size());
+                assertEquals(0, violationsByObject.get(person1).size());
+                assertEquals("lastName must have a value.\nage must be at least 1 at most 100.",
+                        new ConstraintViolationException(violationsByObject.get(person2)).getMessage());
+                assertEquals(2, violationsByObject.get(person3).size());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void shouldValidateLazilyWhenStreamOfObjectsIsConsumed() {
+        var generated = new AtomicInteger();
+        var people = Stream.iterate(0, i -> i + 1)
+                .peek(i -> generated.incrementAndGet())
+                .map(i -> Person.builder().firstName("Name " + i).age(i).build());
+        var validator = new Validator();
+        var actualResults = validator.validateStream(people)
+                .filter(result -> !result.isValid())
+                .limit(2)
+                .map(result -> result.getObject().getAge() + ":" + result.getViolations().size())
+                .collect(Collectors.joining(","));
+        var expectedResults = "0:2,1:1";
+        assertEquals(expectedResults, actualResults);
+        assertEquals(2, generated.get());
+    }
+
+    @Test
+    void shouldRememberOnlyValidObjectsWhenTheirClassIsImmutable() {
+        var validCurrency = Currency.builder()
+                .code("USD")
+                .countries(new ArrayList<>(Arrays.asList("United States", "Ecuador")))
+                .build();
+        var invalidCurrency = Currency.builder().code("EURO").build();
+        var validator = new Validator();
+        assertEquals(0, validator.validate(validCurrency).size());
+        assertEquals(1, validator.validate(invalidCurrency).size());
+        assertEquals(1, validator.validate(invalidCurrency).size());
+
+        validCurrency.getCountries().addAll(List.of("El Salvador", "Panama"));
+        assertEquals(0, validator.validate(validCurrency).size());
+        var actualMessage = new Validator().validate(validCurrency).get(0).getMessage();
+        var expectedMessage = "size must be at most 3.";
+        assertEquals(expectedMessage, actualMessage);
+    }
+
+    @Test
+    void shouldValidateOnlyOneFieldWhenPropertyIsValidated() {
+        var address = Address.builder()
+                .city("Lima")
+                .coordinate(Coordinate.builder().latitude(100.0).longitude(-30.5).build())
+                .build();
+        var validator = new Validator();
+        var violations = validator.validateProperty(address, "street");
+        var actualViolations = violations.stream()
+                .map(v -> v.getName() + " " + v.getMessage())
+                .collect(Collectors.joining("\n"));
+        var expectedViolations = "street must have a value.";
+        assertEquals(expectedViolations, actualViolations);
+        assertEquals(0, validator.validateProperty(address, "city").size());
+        assertEquals(0, validator.validateProperty(address, "coordinate").size());
+        var exception = assertThrows(ValidationException.class,
+                () -> validator.validateProperty(address, "nonexistent"));
+        assertEquals("The class Address does not have the field nonexistent.", exception.getMessage());
+    }
+
+    @Test
+    void shouldValidateValueWithConstraintsOfFieldWhenValueIsValidated() {
+        var validator = new Validator();
+        var violations = validator.validateValue(Person.class, "age", 101);
+        var actualViolations = violations.stream()
+                .map(v -> v.getName() + " " + v.getMessage())
+                .collect(Collectors.joining("\n"));
+        var expectedViolations = "age must be at least 1 at most 100.";
+        assertEquals(expectedViolations, actualViolations);
+        assertEquals(0, validator.validateValue(Person.class, "age", 50).size());
+        var exception = assertThrows(ValidationException.class,
+                () -> validator.validateValue(Person.class, "nonexistent", null));
+        assertEquals("The class Person does not have the field nonexistent.", exception.getMessage());
+    }
+
     @Test
     void shouldExecuteValidationWhenThereIsClassHierarchy() {
         var childObject = ChildClass.builder()
@@ -119,4 +363,186 @@ class ValidatorTest {
         assertEquals(expectedViolationMessage, actualViolationsMessage);
     }
 
+    @Test
+    void shouldNotifyListenerWhenItIsRegistered() {
+        var events = new CopyOnWriteArrayList<String>();
+        var listener = new ValidationListener() {
+
+            @Override
+            public void onValidationStart(Object object) {
+                events.add("start");
+            }
+
+            @Override
+            public void onValidationEnd(Object object, int objectCount, List<ConstraintViolation> violations,
+                    long nanos) {
+                events.add("end:" + objectCount + ":" + violations.size() + ":" + (nanos > 0));
+            }
+
+            @Override
+            public void onMetadataBuild(Class<?> clazz, long nanos) {
+                events.add("build:" + clazz.getSimpleName());
+            }
+
+            @Override
+            public void onConstraintCheck(Annotation annotation, Object value, boolean valid, long nanos) {
+                events.add(annotation.annotationType().getSimpleName() + ":" + valid);
+            }
+
+        };
+        var validator = Validator.builder().listener(listener).build();
+        validator.validate(new Item("Book", 0));
+        validator.validate(new Item(null, 5));
+        var actualEvents = String.join(",", events);
+        var expectedEvents = "start,build:Item,Required:true,Range:false,end:1:1:true,"
+                + "start,Required:false,Range:true,end:1:1:true";
+        assertEquals(expectedEvents, actualEvents);
+    }
+
+    @Test
+    void shouldNotNotifyListenerWhenItIsNotEnabled() {
+        var events = new CopyOnWriteArrayList<String>();
+        var listener = new ValidationListener() {
+
+            @Override
+            public boolean isValidationEnabled() {
+                return false;
+            }
+
+            @Override
+            public boolean isConstraintCheckEnabled() {
+                return false;
+            }
+
+            @Override
+            public void onValidationStart(Object object) {
+                events.add("start");
+            }
+
+            @Override
+            public void onConstraintCheck(Annotation annotation, Object value, boolean valid, long nanos) {
+                events.add(annotation.annotationType().getSimpleName() + ":" + valid);
+            }
+
+        };
+        var validator = Validator.builder().listener(listener).build();
+        var violations = validator.validate(Person.builder().firstName("Tom").age(105).build());
+        assertEquals(2, violations.size());
+        assertEquals(0, events.size());
+    }
+
+    @Test
+    void shouldReturnMessagesInLocaleWhenItIsSet() {
+        var item = new Item(null, 20);
+        var spanishViolations = Validator.builder().locale(new Locale("es")).build().validate(item);
+        var actualMessages = spanishViolations.stream()
+                .map(v -> v.getName() + " " + v.getMessage())
+                .collect(Collectors.joining("\n"));
+        var expectedMessages = "name debe tener un valor.\nquantity debe ser al menos 1 a lo más 10.";
+        assertEquals(expectedMessages, actualMessages);
+        var frenchViolations = Validator.builder().locale(Locale.FRENCH).build().validate(item);
+        actualMessages = frenchViolations.stream()
+                .map(v -> v.getName() + " " + v.getMessage())
+                .collect(Collectors.joining("\n"));
+        expectedMessages = "name must have a value.\nquantity must be at least 1 at most 10.";
+        assertEquals(expectedMessages, actualMessages);
+    }
+
+    @Test
+    void shouldValidatePrimitiveArraysWhenTheyHaveConstraints() {
+        var signal = Signal.builder()
+                .channels(new int[] { 1, 2, 3, 4, 5 })
+                .samples(new double[] { 0.5, -0.25, Double.NaN })
+                .build();
+        var validator = new Validator();
+        var violations = validator.validate(signal);
+        var actualViolations = violations.stream()
+                .map(v -> v.getName() + " " + v.getMessage())
+                .collect(Collectors.joining("\n"));
+        var expectedViolations = "channels size must be at most 4.\n"
+                + "samples must be a finite number.\n"
+                + "samples elements must be at least -1 at most 1.";
+        assertEquals(expectedViolations, actualViolations);
+    }
+
+    @Test
+    void shouldValidateElementsWhenTypeArgumentsHaveConstraints() {
+        var codes = new LinkedHashMap<String, String>();
+        codes.put("first", "ABC");
+        codes.put("second", "ABCD");
+        codes.put("third", null);
+        var scoreboard = Scoreboard.builder()
+                .scores(Arrays.asList(5, 0, null, 11))
+                .codes(codes)
+                .build();
+        var expectedViolations = "scores.1 must be at least 1 at most 10.\n"
+                + "scores.3 must be at least 1 at most 10.\n"
+                + "codes.second size must be at most 3.\n"
+                + "codes.third must have a value.";
+        for (var validator : List.of(new Validator(), Validator.builder().parallelThreshold(2).build())) {
+            var violations = validator.validate(scoreboard);
+            var actualViolations = violations.stream()
+                    .map(v -> v.getName() + " " + v.getMessage())
+                    .collect(Collectors.joining("\n"));
+            assertEquals(expectedViolations, actualViolations);
+        }
+    }
+
+    @Test
+    void shouldValidateElementsWhenSinglePropertyOrValueHasTypeArgumentConstraints() {
+        var codes = new LinkedHashMap<String, String>();
+        codes.put("first", "ABCD");
+        codes.put("second", null);
+        var scoreboard = Scoreboard.builder()
+                .scores(Arrays.asList(5, 11))
+                .codes(codes)
+                .build();
+        var validator = new Validator();
+        var actualViolations = validator.validateProperty(scoreboard, "scores")
+                .stream()
+                .map(v -> v.getName() + " " + v.getMessage())
+                .collect(Collectors.joining("\n"));
+        assertEquals("scores.1 must be at least 1 at most 10.", actualViolations);
+        actualViolations = validator.validateValue(Scoreboard.class, "codes", codes)
+                .stream()
+                .map(v -> v.getName() + " " + v.getMessage())
+                .collect(Collectors.joining("\n"));
+        assertEquals("codes.first size must be at most 3.\ncodes.second must have a value.", actualViolations);
+    }
+
+    @Value
+    static class Basket {
+
+        @Valid
+        List<Line> lines;
+
+    }
+
+    @Value
+    static class Crowd {
+
+        @Valid
+        List<Person> people;
+
+    }
+
+    @Value
+    static class Line {
+
+        @Valid
+        Item item;
+
+    }
+
+    @Value
+    static class Item {
+
+        @Required
+        String name;
+
+        @Range(min = 1, max = 10)
+        Integer quantity;
+
+    }
+
 }
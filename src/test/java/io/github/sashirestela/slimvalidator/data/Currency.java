@@ -0,0 +1,23 @@
+package io.github.sashirestela.slimvalidator.data;
+
+import io.github.sashirestela.slimvalidator.Immutable;
+import io.github.sashirestela.slimvalidator.constraints.Required;
+import io.github.sashirestela.slimvalidator.constraints.Size;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+@Builder
+@Immutable
+public class Currency {
+
+    @Required
+    @Size(min = 3, max = 3)
+    String code;
+
+    @Size(max = 3)
+    List<String> countries;
+
+}
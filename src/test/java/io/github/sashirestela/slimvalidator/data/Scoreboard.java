@@ -0,0 +1,21 @@
+package io.github.sashirestela.slimvalidator.data;
+
+import io.github.sashirestela.slimvalidator.constraints.Range;
+import io.github.sashirestela.slimvalidator.constraints.Required;
+import io.github.sashirestela.slimvalidator.constraints.Size;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+import java.util.Map;
+
+@Value
+@Builder
+public class Scoreboard {
+
+    @Size(max = 5)
+    List<@Range(min = 1, max = 10) Integer> scores;
+
+    Map<String, @Required @Size(max = 3) String> codes;
+
+}
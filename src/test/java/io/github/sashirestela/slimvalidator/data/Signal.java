@@ -0,0 +1,22 @@
+package io.github.sashirestela.slimvalidator.data;
+
+import io.github.sashirestela.slimvalidator.constraints.ElementRange;
+import io.github.sashirestela.slimvalidator.constraints.Finite;
+import io.github.sashirestela.slimvalidator.constraints.Required;
+import io.github.sashirestela.slimvalidator.constraints.Size;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class Signal {
+
+    @Required
+    @Size(max = 4)
+    int[] channels;
+
+    @Finite
+    @ElementRange(min = -1.0, max = 1.0)
+    double[] samples;
+
+}
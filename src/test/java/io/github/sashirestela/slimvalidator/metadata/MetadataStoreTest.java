@@ -0,0 +1,144 @@
+package io.github.sashirestela.slimvalidator.metadata;
+
+import io.github.sashirestela.slimvalidator.ValidationListener;
+import io.github.sashirestela.slimvalidator.constraints.Required;
+import io.github.sashirestela.slimvalidator.data.AbstractClass.ChildClass;
+import io.github.sashirestela.slimvalidator.data.Address;
+import io.github.sashirestela.slimvalidator.data.Participant;
+import io.github.sashirestela.slimvalidator.data.Person;
+import io.github.sashirestela.slimvalidator.data.Scoreboard;
+import io.github.sashirestela.slimvalidator.data.User;
+import io.github.sashirestela.slimvalidator.validators.RangeValidator;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MetadataStoreTest {
+
+    @Test
+    void shouldKeepInitializedValidatorsWhenClassMetadataIsBuilt() {
+        var classMetadata = MetadataStore.one().get(Person.class);
+        var ageField = classMetadata.getFields().get(2);
+        var actualValidator = ageField.getAnnotations().get(0).getValidator();
+        assertInstanceOf(RangeValidator.class, actualValidator);
+        var expectedValidator = MetadataStore.one().get(Person.class).getFields().get(2).getAnnotations().get(0)
+                .getValidator();
+        assertSame(expectedValidator, actualValidator);
+    }
+
+    @Test
+    void shouldCascadeOnlyFieldsWhoseTypeCanHaveConstraints() {
+        var classMetadata = MetadataStore.one().get(User.class);
+        var actualCascadeFields = classMetadata.getFields()
+                .stream()
+                .filter(field -> field.isCascade())
+                .map(field -> field.getName())
+                .collect(Collectors.joining(","));
+        var expectedCascadeFields = "gender,addresses,reference,testData,hobbies,relatives";
+        assertEquals(expectedCascadeFields, actualCascadeFields);
+    }
+
+    @Test
+    void shouldBuildClassMetadataOnlyOnceWhenManyThreadsRequestItAtTheSameTime() throws Exception {
+        var numberOfThreads = 8;
+        var executor = Executors.newFixedThreadPool(numberOfThreads);
+        var readySignal = new CountDownLatch(numberOfThreads);
+        var startSignal = new CountDownLatch(1);
+        var buildCount = new AtomicInteger();
+        var listener = new ValidationListener() {
+
+            @Override
+            public void onMetadataBuild(Class<?> clazz, long nanos) {
+                buildCount.incrementAndGet();
+                // Keeps the build open, so any other thread that also built it would be counted.
+                try {
+                    Thread.sleep(100);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+        };
+        List<Future<ClassMetadata>> futures = new ArrayList<>();
+        for (var i = 0; i < numberOfThreads; i++) {
+            futures.add(executor.submit(() -> {
+                readySignal.countDown();
+                startSignal.await();
+                return MetadataStore.one().get(Concurrent.class, listener);
+            }));
+        }
+        readySignal.await();
+        startSignal.countDown();
+        var distinctMetadata = Collections.newSetFromMap(new IdentityHashMap<ClassMetadata, Boolean>());
+        for (var future : futures) {
+            distinctMetadata.add(future.get());
+        }
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+        assertEquals(1, distinctMetadata.size());
+        assertEquals(1, buildCount.get());
+    }
+
+    @Test
+    void shouldLoadClassMetadataInAdvanceWhenClassesArePreloaded() {
+        MetadataStore.one().preload(ChildClass.class);
+        assertTrue(MetadataStore.one().isLoaded(ChildClass.class));
+        MetadataStore.one().preloadPackage("io.github.sashirestela.slimvalidator.data", true);
+        assertTrue(MetadataStore.one().isLoaded(Participant.class));
+        assertTrue(MetadataStore.one().isLoaded(Address.Coordinate.class));
+    }
+
+    @Test
+    void shouldReturnEmptyClassMetadataWhenClassBelongsToJavaPlatform() {
+        for (var clazz : List.of(LocalDate.class, BigDecimal.class, Date.class)) {
+            var classMetadata = MetadataStore.one().get(clazz);
+            assertEquals(clazz.getName(), classMetadata.getFullName());
+            assertTrue(classMetadata.getAnnotations().isEmpty());
+            assertTrue(classMetadata.getFields().isEmpty());
+        }
+    }
+
+    @Test
+    void shouldKeepElementConstraintsWhenTypeArgumentsAreAnnotated() {
+        var classMetadata = MetadataStore.one().get(Scoreboard.class);
+        var actualConstraints = classMetadata.getFields()
+                .stream()
+                .map(field -> field.getName() + ":" + field.getAnnotations().size() + ":"
+                        + field.getElementAnnotations().size())
+                .collect(Collectors.joining(","));
+        var expectedConstraints = "scores:1:1,codes:0:2";
+        assertEquals(expectedConstraints, actualConstraints);
+    }
+
+    /**
+     * Used only by the concurrency test, so its metadata is not built before.
+     */
+    public static class Concurrent {
+
+        @Required
+        private String name;
+
+        public String getName() {
+            return name;
+        }
+
+    }
+
+}
@@ -0,0 +1,61 @@
+package io.github.sashirestela.slimvalidator.util;
+
+import io.github.sashirestela.slimvalidator.data.AbstractClass;
+import io.github.sashirestela.slimvalidator.data.Address;
+import io.github.sashirestela.slimvalidator.data.Person;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ClassScannerTest {
+
+    private ClassLoader classLoader = ClassScannerTest.class.getClassLoader();
+
+    @Test
+    void shouldReturnClassesAndNestedClassesWhenPackageIsInDirectory() {
+        var classes = ClassScanner.getClasses("io.github.sashirestela.slimvalidator.data", classLoader);
+        assertTrue(classes.contains(Person.class));
+        assertTrue(classes.contains(Address.Coordinate.class));
+        assertTrue(classes.contains(AbstractClass.ChildClass.class));
+        assertFalse(classes.contains(ClassScannerTest.class));
+    }
+
+    @Test
+    void shouldReturnClassesExceptInterfacesWhenPackageIsInJarFile() {
+        var classes = ClassScanner.getClasses("org.junit.jupiter.api.condition", classLoader);
+        assertTrue(classes.contains(OS.class));
+        assertFalse(classes.contains(EnabledOnOs.class));
+    }
+
+    @Test
+    void shouldSkipClassesWhenTheyCannotBeLoaded() {
+        var failingClassLoader = new ClassLoader(classLoader) {
+
+            @Override
+            protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+                if (name.equals(Person.class.getName())) {
+                    throw new NoClassDefFoundError(name);
+                }
+                if (name.equals(Address.class.getName())) {
+                    throw new ClassNotFoundException(name);
+                }
+                return super.loadClass(name, resolve);
+            }
+
+        };
+        var classes = ClassScanner.getClasses("io.github.sashirestela.slimvalidator.data", failingClassLoader);
+        assertFalse(classes.contains(Person.class));
+        assertFalse(classes.contains(Address.class));
+        assertTrue(classes.contains(Address.Coordinate.class));
+    }
+
+    @Test
+    void shouldReturnNoClassesWhenPackageDoesNotExist() {
+        var classes = ClassScanner.getClasses("io.github.sashirestela.nonexistent", classLoader);
+        assertTrue(classes.isEmpty());
+    }
+
+}
@@ -49,6 +49,19 @@ class CommonTest {
         }
     }
 
+    @Test
+    void shouldReturnExpectedResultWhenCheckingPrimitiveOrWrapperTypes() {
+        Object[][] data = {
+                { int.class, true }, { double.class, true }, { Integer.class, true }, { String.class, true },
+                { Object.class, false }, { Sample.class, false }, { int[].class, false }, { Map.class, false }
+        };
+        for (Object[] value : data) {
+            var actualResult = Common.isPrimitiveOrWrapperType((Class<?>) value[0]);
+            var expectedResult = (boolean) value[1];
+            assertEquals(expectedResult, actualResult);
+        }
+    }
+
     static enum Sample {
         ONE;
     }
@@ -0,0 +1,41 @@
+package io.github.sashirestela.slimvalidator.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MessagesTest {
+
+    @Test
+    void shouldReturnMessagesInLocaleWhenItHasItsOwnBundle() {
+        Object[][] data = {
+                { Locale.ROOT, "must be at least 1 at most 10." },
+                { Locale.ENGLISH, "must be at least 1 at most 10." },
+                { new Locale("es"), "debe ser al menos 1 a lo más 10." },
+                { new Locale("es", "PE"), "debe ser al menos 1 a lo más 10." },
+                { Locale.FRENCH, "must be at least 1 at most 10." }
+        };
+        for (Object[] value : data) {
+            var actualMessage = Messages.format((Locale) value[0], "range.minMax", "1", "10");
+            var expectedMessage = value[1];
+            assertEquals(expectedMessage, actualMessage);
+        }
+    }
+
+    @Test
+    void shouldKeepSpacesWhenTemplateStartsOrEndsWithThem() {
+        var actualMessage = Messages.format(Locale.ROOT, "objectType.or");
+        var expectedMessage = " or ";
+        assertEquals(expectedMessage, actualMessage);
+    }
+
+    @Test
+    void shouldUnescapeQuotesWhenTemplateHasNoArguments() {
+        var actualMessage = Messages.format(new Locale("es"), "quoted");
+        var expectedMessage = "debe ser 'válido'.";
+        assertEquals(expectedMessage, actualMessage);
+    }
+
+}
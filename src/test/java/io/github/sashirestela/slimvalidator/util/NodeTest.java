@@ -3,6 +3,8 @@ package io.github.sashirestela.slimvalidator.util;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class NodeTest {
 
@@ -15,4 +17,21 @@ class NodeTest {
         assertEquals(expectedFullPath, actualFullPath);
     }
 
+    @Test
+    void shouldRenderIndexesAndKeysWhenNodesAreNotStrings() {
+        var rootNode = new Node();
+        var itemNode = rootNode.child("addresses").child(2).child("city");
+        var entryNode = rootNode.child("relatives").child(Character.valueOf('k'));
+        assertEquals("addresses.2.city", itemNode.toString());
+        assertEquals("relatives.k", entryNode.toString());
+    }
+
+    @Test
+    void shouldReturnEmptyPathWhenNodeIsRoot() {
+        var rootNode = new Node();
+        assertEquals("", rootNode.toString());
+        assertTrue(rootNode.isRoot());
+        assertFalse(rootNode.child("name").isRoot());
+    }
+
 }
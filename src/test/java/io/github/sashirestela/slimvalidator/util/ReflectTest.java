@@ -1,5 +1,6 @@
 package io.github.sashirestela.slimvalidator.util;
 
+import io.github.sashirestela.slimvalidator.data.AbstractClass.ChildClass;
 import io.github.sashirestela.slimvalidator.data.Person;
 import io.github.sashirestela.slimvalidator.exception.ValidationException;
 import org.junit.jupiter.api.Test;
@@ -8,6 +9,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class ReflectTest {
@@ -40,4 +42,40 @@ class ReflectTest {
         assertThrows(ValidationException.class, () -> Reflect.getValue(person, "fullName"));
     }
 
+    @Test
+    void shouldReturnFieldValuesFromAccessorWhenGetterIsInherited() {
+        var childObject = ChildClass.builder()
+                .name("name")
+                .level(7)
+                .category("category")
+                .build();
+        var nameAccessor = Reflect.getAccessor(ChildClass.class, "name");
+        var levelAccessor = Reflect.getAccessor(ChildClass.class, "level");
+        var categoryAccessor = Reflect.getAccessor(ChildClass.class, "category");
+        assertEquals("name", nameAccessor.apply(childObject));
+        assertEquals(7, levelAccessor.apply(childObject));
+        assertEquals("category", categoryAccessor.apply(childObject));
+    }
+
+    @Test
+    void shouldThrownExceptionWhenGetAccessorWithNonExistingField() {
+        assertThrows(ValidationException.class, () -> Reflect.getAccessor(Person.class, "fullName"));
+    }
+
+    @Test
+    void shouldThrownExceptionWhenGetterThrowsException() {
+        var sample = new FailingSample();
+        var exception = assertThrows(ValidationException.class, () -> Reflect.getValue(sample, "value"));
+        assertEquals("Cannot read the field FailingSample.value().", exception.getMessage());
+        assertInstanceOf(IllegalStateException.class, exception.getCause());
+    }
+
+    public static class FailingSample {
+
+        public String getValue() {
+            throw new IllegalStateException("Not available.");
+        }
+
+    }
+
 }
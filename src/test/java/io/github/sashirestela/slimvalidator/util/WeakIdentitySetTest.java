@@ -0,0 +1,25 @@
+package io.github.sashirestela.slimvalidator.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WeakIdentitySetTest {
+
+    @Test
+    void shouldCompareObjectsByIdentityWhenTheyAreAdded() {
+        var set = new WeakIdentitySet();
+        var object = List.of("one", "two");
+        var equalObject = List.of("one", "two");
+        set.add(object);
+        set.add(object);
+        assertTrue(set.contains(object));
+        assertFalse(set.contains(equalObject));
+        assertEquals(1, set.size());
+    }
+
+}
@@ -0,0 +1,97 @@
+package io.github.sashirestela.slimvalidator.validators;
+
+import io.github.sashirestela.slimvalidator.constraints.ElementRange;
+import io.github.sashirestela.slimvalidator.exception.ValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.lang.annotation.Annotation;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ElementRangeValidatorTest {
+
+    @Test
+    void shouldReturnExpectedResultWhenValidatingPrimitiveArrays() {
+        Object[][] data = {
+                { null, Sample.elementRange(2, 10), true },
+                { new int[] {}, Sample.elementRange(2, 10), true },
+                { new int[] { 2, 5, 10 }, Sample.elementRange(2, 10), true },
+                { new int[] { 2, 5, 11 }, Sample.elementRange(2, 10), false },
+                { new int[] { 2 }, Sample.elementRange(2.5, 10), false },
+                { new long[] { 9007199254740992L }, Sample.elementRange(0, 9007199254740992.0), true },
+                { new long[] { 9007199254740993L }, Sample.elementRange(0, 9007199254740992.0), false },
+                { new double[] { -0.5, 0.0, 0.5 }, Sample.elementRange(-0.5, 0.5), true },
+                { new double[] { 0.0, 0.51 }, Sample.elementRange(-0.5, 0.5), false },
+                { new double[] { Double.NaN }, Sample.elementRange(-0.5, 0.5), false },
+                { new float[] { 1.5f, 9.5f }, Sample.elementRange(1, 10), true },
+                { new float[] { 1.5f, Float.POSITIVE_INFINITY }, Sample.elementRange(1, 10), false },
+                { new float[] { 0.1f, 0.2f }, Sample.elementRange(0.1, 0.2), true },
+                { new float[] { 0.1f, 0.20001f }, Sample.elementRange(0.1, 0.2), false }
+        };
+        for (Object[] value : data) {
+            var validator = new ElementRangeValidator();
+            var annotation = (ElementRange) value[1];
+            validator.initialize(annotation);
+            var actualResult = validator.isValid(value[0]);
+            var expectedResult = value[2];
+            assertEquals(expectedResult, actualResult);
+        }
+    }
+
+    @Test
+    void shouldThrowExceptionWhenValidatingNonPrimitiveArrays() {
+        Object[] data = { new Integer[] { 1 }, List.of(1), 5 };
+        for (Object value : data) {
+            var validator = new ElementRangeValidator();
+            validator.initialize(Sample.elementRange(2, 10));
+            assertThrows(ValidationException.class, () -> validator.isValid(value));
+        }
+    }
+
+    @Test
+    void shouldThrownExceptionWhenMinIsGreaterThanMax() {
+        var validator = new ElementRangeValidator();
+        var annotation = Sample.elementRange(1.5, 0.5);
+        var exception = assertThrows(ValidationException.class, () -> validator.initialize(annotation));
+        var actualMessage = exception.getMessage();
+        var expectedMessage = "In ElementRange constraint, min must be less than max.";
+        assertEquals(expectedMessage, actualMessage);
+    }
+
+    @Test
+    void shouldGenerateCorrectMessageForBothMinAndMax() {
+        var validator = new ElementRangeValidator();
+        validator.initialize(Sample.elementRange(-1.5, 1.5));
+        var actualMessage = validator.getMessage();
+        var expectedMessage = "elements must be at least -1.5 at most 1.5.";
+        assertEquals(expectedMessage, actualMessage);
+    }
+
+    static class Sample {
+
+        static ElementRange elementRange(double min, double max) {
+            return new ElementRange() {
+
+                @Override
+                public Class<? extends Annotation> annotationType() {
+                    return ElementRange.class;
+                }
+
+                @Override
+                public double min() {
+                    return min;
+                }
+
+                @Override
+                public double max() {
+                    return max;
+                }
+
+            };
+        }
+
+    }
+
+}
@@ -0,0 +1,53 @@
+package io.github.sashirestela.slimvalidator.validators;
+
+import io.github.sashirestela.slimvalidator.exception.ValidationException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FiniteValidatorTest {
+
+    @Test
+    void shouldReturnExpectedResultWhenValidatingFloatingPointNumbers() {
+        Object[][] data = {
+                { null, true },
+                { Double.valueOf(1.5), true },
+                { Double.valueOf(Double.NaN), false },
+                { Float.valueOf(Float.NEGATIVE_INFINITY), false },
+                { new double[] {}, true },
+                { new double[] { -Double.MAX_VALUE, 0.0, Double.MIN_VALUE }, true },
+                { new double[] { 1.0, Double.POSITIVE_INFINITY }, false },
+                { new double[] { Double.NaN, 1.0 }, false },
+                { new float[] { 1.0f, Float.MAX_VALUE }, true },
+                { new float[] { 1.0f, Float.NaN }, false }
+        };
+        for (Object[] value : data) {
+            var validator = new FiniteValidator();
+            validator.initialize(null);
+            var actualResult = validator.isValid(value[0]);
+            var expectedResult = value[1];
+            assertEquals(expectedResult, actualResult);
+        }
+    }
+
+    @Test
+    void shouldThrowExceptionWhenValidatingOtherTypes() {
+        Object[] data = { Integer.valueOf(1), new int[] { 1 }, "1.5" };
+        for (Object value : data) {
+            var validator = new FiniteValidator();
+            validator.initialize(null);
+            assertThrows(ValidationException.class, () -> validator.isValid(value));
+        }
+    }
+
+    @Test
+    void shouldGenerateMessage() {
+        var validator = new FiniteValidator();
+        validator.initialize(null);
+        var actualMessage = validator.getMessage();
+        var expectedMessage = "must be a finite number.";
+        assertEquals(expectedMessage, actualMessage);
+    }
+
+}
@@ -1,6 +1,7 @@
 package io.github.sashirestela.slimvalidator.validators;
 
 import io.github.sashirestela.slimvalidator.constraints.ObjectType;
+import io.github.sashirestela.slimvalidator.constraints.ObjectType.Sampling;
 import io.github.sashirestela.slimvalidator.constraints.ObjectType.Schema;
 import org.junit.jupiter.api.Test;
 
@@ -8,10 +9,13 @@ import java.lang.annotation.Annotation;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -224,6 +228,54 @@ class ObjectTypeValidatorTest {
         assertTrue(validator.isValid(largeList));
     }
 
+    @Test
+    void shouldFindInvalidItemsBeyondFirstOnesWhenSamplingIsNotFirst() {
+        var arrayList = new ArrayList<Object>();
+        for (int i = 0; i < 100; i++) {
+            arrayList.add(i % 10 == 5 ? 123 : "valid");
+        }
+        var linkedList = new LinkedList<Object>(arrayList);
+        var map = new LinkedHashMap<String, Object>();
+        for (int i = 0; i < arrayList.size(); i++) {
+            map.put("key" + i, arrayList.get(i));
+        }
+        Object[][] data = {
+                { arrayList, Sample.objectType(Schema.COLL, new Class<?>[] { String.class }, 5, Sampling.FIRST, 0) },
+                { linkedList, Sample.objectType(Schema.COLL, new Class<?>[] { String.class }, 5, Sampling.FIRST, 0) },
+                { arrayList, Sample.objectType(Schema.COLL, new Class<?>[] { String.class }, 10, Sampling.STRIDED, 0) },
+                { linkedList,
+                        Sample.objectType(Schema.COLL, new Class<?>[] { String.class }, 10, Sampling.STRIDED, 0) },
+                { map, Sample.objectType(Schema.MAP, new Class<?>[] { String.class }, 10, Sampling.STRIDED, 0) }
+        };
+        assertData(data, true);
+        data = new Object[][] {
+                { arrayList, Sample.objectType(Schema.COLL, new Class<?>[] { String.class }, 5, Sampling.FULL, 0) },
+                { arrayList, Sample.objectType(Schema.COLL, new Class<?>[] { String.class }, 20, Sampling.STRIDED, 0) },
+                { linkedList,
+                        Sample.objectType(Schema.COLL, new Class<?>[] { String.class }, 20, Sampling.STRIDED, 0) },
+                { arrayList, Sample.objectType(Schema.COLL, new Class<?>[] { String.class }, 60, Sampling.RANDOM, 7) },
+                { linkedList,
+                        Sample.objectType(Schema.COLL, new Class<?>[] { String.class }, 60, Sampling.RANDOM, 7) },
+                { map, Sample.objectType(Schema.MAP, new Class<?>[] { String.class }, 60, Sampling.RANDOM, 7) }
+        };
+        assertData(data, false);
+    }
+
+    @Test
+    void shouldPickSameItemsWhenRandomSamplingHasSeed() {
+        var list = new ArrayList<Object>();
+        for (int i = 0; i < 1000; i++) {
+            list.add("valid");
+        }
+        list.set(500, 123);
+        var validator = new ObjectTypeValidator();
+        validator.initialize(Sample.objectType(Schema.COLL, new Class<?>[] { String.class }, 10, Sampling.RANDOM, 42));
+        var expectedResult = validator.isValid(list);
+        for (int i = 0; i < 10; i++) {
+            assertEquals(expectedResult, validator.isValid(list));
+        }
+    }
+
     static class Sample {
 
         static ObjectType objectType(Schema schema, Class<?>[] baseClass) {
@@ -255,6 +307,19 @@ class ObjectTypeValidatorTest {
 
         static ObjectType objectType(Schema schema, Class<?>[] baseClass, Class<?> keyClass, int maxSize,
                 int maxInnerSize, int maxChecks, boolean allowNull, boolean allowInnerNull) {
+            return objectType(schema, baseClass, keyClass, maxSize, maxInnerSize, maxChecks, allowNull,
+                    allowInnerNull, Sampling.FIRST, 0);
+        }
+
+        static ObjectType objectType(Schema schema, Class<?>[] baseClass, int maxChecks, Sampling sampling,
+                long seed) {
+            return objectType(schema, baseClass, void.class, Integer.MAX_VALUE, Integer.MAX_VALUE, maxChecks, true,
+                    true, sampling, seed);
+        }
+
+        static ObjectType objectType(Schema schema, Class<?>[] baseClass, Class<?> keyClass, int maxSize,
+                int maxInnerSize, int maxChecks, boolean allowNull, boolean allowInnerNull, Sampling sampling,
+                long seed) {
             return new ObjectType() {
 
                 @Override
@@ -292,6 +357,16 @@ class ObjectTypeValidatorTest {
                     return maxChecks;
                 }
 
+                @Override
+                public Sampling sampling() {
+                    return sampling;
+                }
+
+                @Override
+                public long seed() {
+                    return seed;
+                }
+
                 @Override
                 public boolean allowNull() {
                     return allowNull;
@@ -0,0 +1,147 @@
+package io.github.sashirestela.slimvalidator.validators;
+
+import io.github.sashirestela.slimvalidator.constraints.ObjectType;
+import io.github.sashirestela.slimvalidator.constraints.ObjectType.ObjectTypes;
+import io.github.sashirestela.slimvalidator.constraints.ObjectType.Sampling;
+import io.github.sashirestela.slimvalidator.constraints.ObjectType.Schema;
+import io.github.sashirestela.slimvalidator.validators.ObjectTypeValidatorTest.Sample;
+import org.junit.jupiter.api.Test;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ObjectTypesValidatorTest {
+
+    private static final ObjectTypes OBJECT_TYPES = objectTypes(
+            Sample.objectType(Schema.DIRECT, new Class<?>[] { String.class }),
+            Sample.objectType(Schema.COLL, new Class<?>[] { Integer.class }),
+            Sample.objectType(Schema.COLL, new Class<?>[] { String.class }, 2),
+            Sample.objectType(Schema.COLL_COLL, new Class<?>[] { Double.class }),
+            Sample.objectType(Schema.MAP, new Class<?>[] { Integer.class }, String.class),
+            Sample.objectType(Schema.MAP_COLL, new Class<?>[] { String.class }, String.class));
+
+    private void assertData(Object[][] data, boolean expectedResult) {
+        for (Object[] testCase : data) {
+            var validator = new ObjectTypesValidator();
+            var annotation = (ObjectTypes) testCase[1];
+            validator.initialize(annotation);
+            var actualResult = validator.isValid(testCase[0]);
+            if (expectedResult) {
+                assertTrue(actualResult, "Expected true for value: " + testCase[0]);
+            } else {
+                assertFalse(actualResult, "Expected false for value: " + testCase[0]);
+            }
+        }
+    }
+
+    @Test
+    void shouldReturnTrueWhenValueMatchesAnyAlternative() {
+        Object[][] data = {
+                { null, OBJECT_TYPES },
+                { "text", OBJECT_TYPES },
+                { List.of(), OBJECT_TYPES },
+                { List.of(1, 2, 3), OBJECT_TYPES },
+                { List.of("a", "b"), OBJECT_TYPES },
+                { Set.of(List.of(1.0), List.of(2.0, 3.0)), OBJECT_TYPES },
+                { Map.of("one", 1), OBJECT_TYPES },
+                { Map.of("one", List.of("a")), OBJECT_TYPES },
+                { List.of(1, 2), objectTypes(Sample.objectType(Schema.COLL, new Class<?>[] { String.class }),
+                        Sample.objectType(Schema.COLL, new Class<?>[] { Integer.class }, 5, Sampling.FULL, 0)) }
+        };
+        assertData(data, true);
+    }
+
+    @Test
+    void shouldReturnFalseWhenValueMatchesNoAlternative() {
+        Object[][] data = {
+                { 42, OBJECT_TYPES },
+                { List.of("a", "b", "c"), OBJECT_TYPES },
+                { Arrays.asList(1, "a"), OBJECT_TYPES },
+                { List.of(List.of(1)), OBJECT_TYPES },
+                { Map.of("one", 1.0), OBJECT_TYPES },
+                { Map.of(1, 1), OBJECT_TYPES },
+                { List.of(1, "a"), objectTypes(Sample.objectType(Schema.COLL, new Class<?>[] { String.class }),
+                        Sample.objectType(Schema.COLL, new Class<?>[] { Integer.class }, 5, Sampling.FULL, 0)) }
+        };
+        assertData(data, false);
+    }
+
+    @Test
+    void shouldReadEachSampledElementOnceWhenAlternativesShareTheSampling() {
+        var list = new CountingList();
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+        list.add("last");
+        var validator = new ObjectTypesValidator();
+        validator.initialize(objectTypes(
+                Sample.objectType(Schema.COLL, new Class<?>[] { Integer.class }),
+                Sample.objectType(Schema.COLL, new Class<?>[] { Number.class }),
+                Sample.objectType(Schema.COLL, new Class<?>[] { Comparable.class })));
+        assertTrue(validator.isValid(list));
+        assertEquals(list.size(), list.reads);
+    }
+
+    @Test
+    void shouldJoinDescriptionsOfAlternativesWhenMessageIsGenerated() {
+        var validator = new ObjectTypesValidator();
+        validator.initialize(OBJECT_TYPES);
+        var expectedMessage = "type must be one of String or Collection<Integer> or "
+                + "Collection<String> and size at most 2 or Collection<Collection<Double>> or "
+                + "Map<String, Integer> or Map<String, Collection<String>>.";
+        assertEquals(expectedMessage, validator.getMessage());
+    }
+
+    private static ObjectTypes objectTypes(ObjectType... objectTypes) {
+        return new ObjectTypes() {
+
+            @Override
+            public Class<? extends Annotation> annotationType() {
+                return ObjectTypes.class;
+            }
+
+            @Override
+            public ObjectType[] value() {
+                return objectTypes.clone();
+            }
+
+        };
+    }
+
+    static class CountingList extends ArrayList<Object> {
+
+        private static final long serialVersionUID = 1L;
+
+        int reads;
+
+        @Override
+        public Iterator<Object> iterator() {
+            var iterator = super.iterator();
+            return new Iterator<>() {
+
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public Object next() {
+                    reads++;
+                    return iterator.next();
+                }
+
+            };
+        }
+
+    }
+
+}
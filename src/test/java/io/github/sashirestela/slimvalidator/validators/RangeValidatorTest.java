@@ -5,6 +5,10 @@ import io.github.sashirestela.slimvalidator.exception.ValidationException;
 import org.junit.jupiter.api.Test;
 
 import java.lang.annotation.Annotation;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -83,13 +87,68 @@ class RangeValidatorTest {
         }
     }
 
+    @Test
+    void shouldCompareExactlyWhenValidatingIntegralAndBigNumbers() {
+        Object[][] data = {
+                { Long.valueOf(9007199254740992L), Sample.range(0, 9007199254740992.0), true },
+                { Long.valueOf(9007199254740993L), Sample.range(0, 9007199254740992.0), false },
+                { Long.valueOf(Long.MAX_VALUE), Sample.range(0, 0x1p63), true },
+                { Long.valueOf(Long.MAX_VALUE), Sample.range(0x1p63, 0x1p64), false },
+                { Integer.valueOf(2), Sample.range(1.5, 2.5), true },
+                { Integer.valueOf(3), Sample.range(1.5, 2.5), false },
+                { Short.valueOf((short) 5), Sample.range(2, 10), true },
+                { new AtomicInteger(11), Sample.range(2, 10), false },
+                { new AtomicLong(10), Sample.range(2, 10), true },
+                { new BigDecimal("10.0000000000000001"), Sample.range(2, 10), false },
+                { new BigDecimal("9.9999999999999999"), Sample.range(2, 10), true },
+                { new BigInteger("100000000000000000000"), Sample.range(0, 1e20), true },
+                { new BigInteger("100000000000000000001"), Sample.range(0, 1e20), false },
+                { Double.valueOf(Double.NaN), Sample.range(2, 10), false }
+        };
+        for (Object[] value : data) {
+            var validator = new RangeValidator();
+            var annotation = (Range) value[1];
+            validator.initialize(annotation);
+            var actualResult = validator.isValid(value[0]);
+            var expectedResult = value[2];
+            assertEquals(expectedResult, actualResult);
+        }
+    }
+
+    @Test
+    void shouldIncludeBoundsAsWrittenWhenTheyAreFractional() {
+        Object[][] data = {
+                { new BigDecimal("0.01"), Sample.range(0.01, 99.99), true },
+                { new BigDecimal("99.99"), Sample.range(0.01, 99.99), true },
+                { new BigDecimal("0.009"), Sample.range(0.01, 99.99), false },
+                { new BigDecimal("99.991"), Sample.range(0.01, 99.99), false },
+                { "0.1", Sample.numericText(0.1, 0.3), true },
+                { "0.3", Sample.numericText(0.1, 0.3), true },
+                { "0.30001", Sample.numericText(0.1, 0.3), false },
+                { Float.valueOf(0.1f), Sample.range(0.1), true },
+                { Float.valueOf(0.1f), Sample.range(0.1, 0.2), true },
+                { Float.valueOf(0.2f), Sample.range(0.1, 0.2), true },
+                { Float.valueOf(0.20001f), Sample.range(0.1, 0.2), false },
+                { Float.valueOf(Float.POSITIVE_INFINITY), Sample.range(0, 1e39), false },
+                { Double.valueOf(99.99), Sample.range(0.01, 99.99), true }
+        };
+        for (Object[] value : data) {
+            var validator = new RangeValidator();
+            var annotation = (Range) value[1];
+            validator.initialize(annotation);
+            var actualResult = validator.isValid(value[0]);
+            var expectedResult = value[2];
+            assertEquals(expectedResult, actualResult, "Value: " + value[0]);
+        }
+    }
+
     @Test
     void shouldReturnTrueWhenValidatingStringNumbers() {
         Object[][] data = {
-                { "5", Sample.range(2, 10) },
-                { "7.5", Sample.range(2.0, 10.0) },
-                { "2", Sample.range(2, 10) },
-                { "10", Sample.range(2, 10) }
+                { "5", Sample.numericText(2, 10) },
+                { "7.5", Sample.numericText(2.0, 10.0) },
+                { "2", Sample.numericText(2, 10) },
+                { "10", Sample.numericText(2, 10) }
         };
         for (Object[] value : data) {
             var validator = new RangeValidator();
@@ -118,10 +177,29 @@ class RangeValidatorTest {
         }
     }
 
+    @Test
+    void shouldReturnFalseWhenValidatingStringNumbersOutOfRange() {
+        Object[][] data = {
+                { "1.99", Sample.numericText(2, 10) },
+                { " 10.01 ", Sample.numericText(2, 10) },
+                { "-5", Sample.numericText(2, 10) }
+        };
+        for (Object[] value : data) {
+            var validator = new RangeValidator();
+            var annotation = (Range) value[1];
+            validator.initialize(annotation);
+            var actualResult = validator.isValid(value[0]);
+            var expectedResult = false;
+            assertEquals(expectedResult, actualResult);
+        }
+    }
+
     @Test
     void shouldThrowExceptionWhenValidatingNonNumericWithoutVariableType() {
         Object[][] data = {
                 { "abc", Sample.range(2, 10) },
+                { "5", Sample.range(2, 10) },
+                { "abc", Sample.numericText(2, 10) },
                 { Boolean.TRUE, Sample.range(2, 10) },
                 { new Object(), Sample.range(2, 10) }
         };
@@ -214,6 +292,14 @@ class RangeValidatorTest {
         }
 
         static Range range(double min, double max, boolean isVariableType) {
+            return range(min, max, isVariableType, false);
+        }
+
+        static Range numericText(double min, double max) {
+            return range(min, max, false, true);
+        }
+
+        static Range range(double min, double max, boolean isVariableType, boolean isNumericText) {
             return new Range() {
 
                 @Override
@@ -236,6 +322,11 @@ class RangeValidatorTest {
                     return isVariableType;
                 }
 
+                @Override
+                public boolean isNumericText() {
+                    return isNumericText;
+                }
+
             };
         }
 
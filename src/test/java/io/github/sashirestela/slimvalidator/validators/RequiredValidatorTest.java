@@ -20,7 +20,9 @@ class RequiredValidatorTest {
                 { Map.of(), false },
                 { Map.of("key", "value"), true },
                 { new Object[] {}, false },
-                { new Object[] { 1, 2, 3 }, true }
+                { new Object[] { 1, 2, 3 }, true },
+                { new int[] {}, false },
+                { new double[] { 1.5 }, true }
         };
         for (Object[] value : data) {
             var validator = new RequiredValidator();
@@ -40,6 +40,8 @@ class SizeValidatorTest {
                 { new String[] { "a", "b", "c" }, Sample.size(2, 10) },
                 { new String[] { "a", "b" }, Sample.size(2, 10) },
                 { new String[] { "a", "b", "c", "d", "e", "f", "g", "h", "i", "j" }, Sample.size(2, 10) },
+                { new int[] { 1, 2, 3 }, Sample.size(2, 10) },
+                { new double[] { 1.5, 2.5 }, Sample.size(2, 10) },
 
                 // Edge cases with min=0
                 { "", Sample.size(0, 5) },
@@ -92,7 +94,8 @@ class SizeValidatorTest {
                 { new String[] {}, Sample.size(2, 10) },
 
                 // Array validations - too long
-                { new String[] { "a", "b", "c", "d", "e", "f", "g", "h", "i", "j", "k" }, Sample.size(2, 10) }
+                { new String[] { "a", "b", "c", "d", "e", "f", "g", "h", "i", "j", "k" }, Sample.size(2, 10) },
+                { new long[11], Sample.size(2, 10) }
         };
 
         for (Object[] value : data) {